@@ -0,0 +1,66 @@
+package com.laporeon.urlshortener.benchmarks;
+
+import com.laporeon.urlshortener.config.properties.StorageProperties;
+import com.laporeon.urlshortener.entities.Url;
+import com.laporeon.urlshortener.storage.embedded.EmbeddedUrlStore;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Redirect lookups against the embedded segment log engine.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EmbeddedStoreBenchmark {
+
+    private static final int URL_COUNT = 100_000;
+
+    private Path directory;
+    private EmbeddedUrlStore store;
+    private String[] shortCodes;
+
+    @Setup
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("embedded-store-benchmark");
+
+        StorageProperties properties = new StorageProperties();
+        properties.getEmbedded().setDirectory(directory.toString());
+        store = new EmbeddedUrlStore(properties);
+
+        Instant expiresAt = Instant.now().plus(1, ChronoUnit.DAYS);
+        shortCodes = new String[URL_COUNT];
+
+        for (int i = 0; i < URL_COUNT; i++) {
+            shortCodes[i] = "e%06d".formatted(i);
+            store.insert(Url.builder()
+                            .shortCode(shortCodes[i])
+                            .originalUrl("https://example.com/articles/" + i)
+                            .expiresAt(expiresAt)
+                            .build());
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        store.close();
+        FileSystemUtils.deleteRecursively(directory);
+    }
+
+    @Benchmark
+    public Optional<Url> findRedirectTarget() {
+        return store.findRedirectTarget(shortCodes[ThreadLocalRandom.current().nextInt(URL_COUNT)]);
+    }
+}
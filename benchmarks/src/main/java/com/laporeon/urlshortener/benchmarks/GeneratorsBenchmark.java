@@ -0,0 +1,48 @@
+package com.laporeon.urlshortener.benchmarks;
+
+import com.laporeon.urlshortener.utils.BaseUrlGenerator;
+import com.laporeon.urlshortener.utils.ExpirationDateGenerator;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GeneratorsBenchmark {
+
+    private final BaseUrlGenerator baseUrlGenerator = new BaseUrlGenerator();
+    private final ExpirationDateGenerator expirationDateGenerator = new ExpirationDateGenerator();
+    private final LocalDate expirationDate = LocalDate.now().plusDays(30);
+
+    private MockHttpServletRequest request;
+
+    @Setup
+    public void setUp() {
+        request = new MockHttpServletRequest("POST", "/shorten");
+        request.setScheme("https");
+        request.setServerName("sho.rt");
+        request.setServerPort(443);
+    }
+
+    @Benchmark
+    public String generateBaseUrl() {
+        return baseUrlGenerator.generateBaseUrl(request);
+    }
+
+    @Benchmark
+    public Instant generateDefaultExpiresAt() {
+        return expirationDateGenerator.generateExpiresAt(null);
+    }
+
+    @Benchmark
+    public Instant generateExpiresAtFromDate() {
+        return expirationDateGenerator.generateExpiresAt(expirationDate);
+    }
+}
@@ -0,0 +1,59 @@
+package com.laporeon.urlshortener.benchmarks;
+
+import com.laporeon.urlshortener.entities.Url;
+import com.laporeon.urlshortener.storage.UrlStore;
+import org.springframework.dao.DuplicateKeyException;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Map-backed {@link UrlStore}, so UrlService can be measured without any storage engine behind it.
+ */
+final class InMemoryUrlStore implements UrlStore {
+
+    private final Map<String, Url> urls = new ConcurrentHashMap<>();
+
+    @Override
+    public Url insert(Url url) {
+        if (urls.putIfAbsent(url.getShortCode(), url) != null) {
+            throw new DuplicateKeyException("Short code already taken: " + url.getShortCode());
+        }
+        return url;
+    }
+
+    @Override
+    public List<Integer> insertAllUnordered(List<Url> batch) {
+        List<Integer> duplicates = new ArrayList<>();
+        for (int index = 0; index < batch.size(); index++) {
+            if (urls.putIfAbsent(batch.get(index).getShortCode(), batch.get(index)) != null) {
+                duplicates.add(index);
+            }
+        }
+        return duplicates;
+    }
+
+    @Override
+    public Optional<Url> findRedirectTarget(String shortCode) {
+        return Optional.ofNullable(urls.get(shortCode));
+    }
+
+    @Override
+    public Optional<Url> findByDedupKey(String dedupKey) {
+        return Optional.empty();
+    }
+
+    @Override
+    public void incrementClickCounts(Map<String, Long> clicksByShortCode) {
+    }
+
+    @Override
+    public void streamLiveShortCodes(Instant createdAfter, Consumer<String> consumer) {
+        urls.keySet().forEach(consumer);
+    }
+}
@@ -0,0 +1,99 @@
+package com.laporeon.urlshortener.benchmarks;
+
+import com.laporeon.urlshortener.cache.RedirectCache;
+import com.laporeon.urlshortener.cache.ShortCodeFilter;
+import com.laporeon.urlshortener.config.properties.DedupProperties;
+import com.laporeon.urlshortener.config.properties.RedirectCacheProperties;
+import com.laporeon.urlshortener.config.properties.ResilienceProperties;
+import com.laporeon.urlshortener.config.properties.ShortCodeFilterProperties;
+import com.laporeon.urlshortener.config.properties.ShortCodeProperties;
+import com.laporeon.urlshortener.entities.Url;
+import com.laporeon.urlshortener.metrics.UrlMetrics;
+import com.laporeon.urlshortener.resilience.RedirectLookup;
+import com.laporeon.urlshortener.services.UrlService;
+import com.laporeon.urlshortener.storage.UrlStore;
+import com.laporeon.urlshortener.utils.BaseUrlGenerator;
+import com.laporeon.urlshortener.utils.ExpirationDateGenerator;
+import com.laporeon.urlshortener.utils.RandomShortCodeGenerator;
+import com.laporeon.urlshortener.utils.UrlNormalizer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Redirect resolution through UrlService against an in-memory repository, isolating the
+ * in-process cost of the hot path from database latency.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RedirectBenchmark {
+
+    private static final int URL_COUNT = 10_000;
+
+    @Param({"true", "false"})
+    private boolean cacheEnabled;
+
+    @Param({"true", "false"})
+    private boolean resilienceEnabled;
+
+    private UrlService urlService;
+    private String[] shortCodes;
+
+    @Setup
+    public void setUp() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        UrlStore urlStore = new InMemoryUrlStore();
+
+        RedirectCacheProperties cacheProperties = new RedirectCacheProperties();
+        cacheProperties.setEnabled(cacheEnabled);
+
+        ResilienceProperties resilienceProperties = new ResilienceProperties();
+        resilienceProperties.setEnabled(resilienceEnabled);
+
+        urlService = new UrlService(
+                urlStore,
+                new RandomShortCodeGenerator(),
+                new ExpirationDateGenerator(),
+                new BaseUrlGenerator(),
+                new RedirectCache(cacheProperties, meterRegistry),
+                new ShortCodeFilter(urlStore, new ShortCodeFilterProperties(), meterRegistry),
+                new ShortCodeProperties(),
+                new UrlMetrics(meterRegistry),
+                new UrlNormalizer(),
+                new DedupProperties(),
+                new RedirectLookup(urlStore, resilienceProperties, meterRegistry));
+
+        RandomShortCodeGenerator generator = new RandomShortCodeGenerator();
+        Instant expiresAt = Instant.now().plus(1, ChronoUnit.DAYS);
+        shortCodes = new String[URL_COUNT];
+
+        for (int i = 0; i < URL_COUNT; i++) {
+            shortCodes[i] = generator.generateShortCode();
+            urlStore.insert(Url.builder()
+                                    .shortCode(shortCodes[i])
+                                    .originalUrl("https://example.com/articles/" + i)
+                                    .expiresAt(expiresAt)
+                                    .build());
+        }
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Url resolveSingleThread() {
+        return urlService.findByShortCode(shortCodes[ThreadLocalRandom.current().nextInt(URL_COUNT)]);
+    }
+
+    @Benchmark
+    @Threads(16)
+    public Url resolveContended() {
+        return urlService.findByShortCode(shortCodes[ThreadLocalRandom.current().nextInt(URL_COUNT)]);
+    }
+}
@@ -0,0 +1,92 @@
+package com.laporeon.urlshortener.benchmarks;
+
+import com.laporeon.urlshortener.entities.Url;
+import com.laporeon.urlshortener.repositories.UrlRepository;
+import com.laporeon.urlshortener.repositories.UrlRepositoryImpl;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.repository.support.MongoRepositoryFactory;
+import org.springframework.data.repository.core.support.RepositoryComposition.RepositoryFragments;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the full entity lookup against the raw BSON projection used on the redirect path.
+ * Needs a reachable MongoDB, by default the one from docker-compose.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RedirectLookupBenchmark {
+
+    private static final String DATABASE = "urlshortener_benchmarks";
+    private static final int URL_COUNT = 10_000;
+
+    @Param({"mongodb://localhost:27017"})
+    private String mongoUri;
+
+    private MongoClient mongoClient;
+    private UrlRepository urlRepository;
+    private String[] shortCodes;
+
+    @Setup
+    public void setUp() {
+        mongoClient = MongoClients.create(mongoUri);
+        MongoTemplate mongoTemplate = new MongoTemplate(mongoClient, DATABASE);
+        mongoTemplate.dropCollection(Url.class);
+        mongoTemplate.indexOps(Url.class).createIndex(new Index("short_code", Sort.Direction.ASC).unique());
+
+        urlRepository = new MongoRepositoryFactory(mongoTemplate).getRepository(
+                UrlRepository.class,
+                RepositoryFragments.just(new UrlRepositoryImpl(mongoTemplate)));
+
+        Instant expiresAt = Instant.now().plus(1, ChronoUnit.DAYS);
+        List<Url> urls = new ArrayList<>(URL_COUNT);
+        shortCodes = new String[URL_COUNT];
+
+        for (int i = 0; i < URL_COUNT; i++) {
+            shortCodes[i] = "b%06d".formatted(i);
+            urls.add(Url.builder()
+                        .shortCode(shortCodes[i])
+                        .originalUrl("https://example.com/articles/" + i)
+                        .expiresAt(expiresAt)
+                        .createdAt(Instant.now())
+                        .build());
+        }
+
+        urlRepository.insertAllUnordered(urls);
+    }
+
+    @TearDown
+    public void tearDown() {
+        mongoClient.getDatabase(DATABASE).drop();
+        mongoClient.close();
+    }
+
+    @Benchmark
+    public Optional<Url> findByShortCode() {
+        return urlRepository.findByShortCode(nextShortCode());
+    }
+
+    @Benchmark
+    public Optional<Url> findRedirectTarget() {
+        return urlRepository.findRedirectTarget(nextShortCode());
+    }
+
+    private String nextShortCode() {
+        return shortCodes[ThreadLocalRandom.current().nextInt(URL_COUNT)];
+    }
+}
@@ -0,0 +1,54 @@
+package com.laporeon.urlshortener.benchmarks;
+
+import com.laporeon.urlshortener.dtos.request.UrlRequestDTO;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RequestValidationBenchmark {
+
+    @Param({"short", "long", "invalid", "adversarial"})
+    private String input;
+
+    private ValidatorFactory validatorFactory;
+    private Validator validator;
+    private UrlRequestDTO request;
+
+    @Setup
+    public void setUp() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        validator = validatorFactory.getValidator();
+
+        String url = switch (input) {
+            case "short" -> "https://example.com";
+            case "long" -> "https://www.example.com:8443/" + "segment/".repeat(200) + "?q=1";
+            case "invalid" -> "ftp://example";
+            case "adversarial" -> "https://" + "a.".repeat(2_000) + "a!";
+            default -> throw new IllegalArgumentException(input);
+        };
+
+        request = new UrlRequestDTO(url, LocalDate.now().plusDays(5));
+    }
+
+    @TearDown
+    public void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<UrlRequestDTO>> validate() {
+        return validator.validate(request);
+    }
+}
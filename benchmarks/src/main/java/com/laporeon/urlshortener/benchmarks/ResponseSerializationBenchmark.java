@@ -0,0 +1,30 @@
+package com.laporeon.urlshortener.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.laporeon.urlshortener.dtos.response.UrlResponseDTO;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ResponseSerializationBenchmark {
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private final UrlResponseDTO response = new UrlResponseDTO(
+            "https://sho.rt/v2esjMb",
+            Instant.now().plus(1, ChronoUnit.DAYS));
+
+    @Benchmark
+    public byte[] serializeUrlResponse() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(response);
+    }
+}
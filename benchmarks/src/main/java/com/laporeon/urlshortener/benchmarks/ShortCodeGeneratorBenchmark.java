@@ -0,0 +1,45 @@
+package com.laporeon.urlshortener.benchmarks;
+
+import com.laporeon.urlshortener.utils.RandomShortCodeGenerator;
+import com.laporeon.urlshortener.utils.ShortCodeCipher;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ShortCodeGeneratorBenchmark {
+
+    private final RandomShortCodeGenerator randomGenerator = new RandomShortCodeGenerator();
+    private final ShortCodeCipher cipher = new ShortCodeCipher("benchmark");
+    private final AtomicLong ids = new AtomicLong();
+
+    @Benchmark
+    @Threads(1)
+    public String randomSingleThread() {
+        return randomGenerator.generateShortCode();
+    }
+
+    @Benchmark
+    @Threads(16)
+    public String randomContended() {
+        return randomGenerator.generateShortCode();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public String rangeEncodeSingleThread() {
+        return cipher.encode(ids.getAndIncrement() % ShortCodeCipher.CODE_SPACE);
+    }
+
+    @Benchmark
+    @Threads(16)
+    public String rangeEncodeContended() {
+        return cipher.encode(ids.getAndIncrement() % ShortCodeCipher.CODE_SPACE);
+    }
+}
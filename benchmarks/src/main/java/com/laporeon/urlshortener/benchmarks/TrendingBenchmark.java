@@ -0,0 +1,47 @@
+package com.laporeon.urlshortener.benchmarks;
+
+import com.laporeon.urlshortener.config.properties.TrendingProperties;
+import com.laporeon.urlshortener.trending.TrendingLinks;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost a redirect pays to feed {@link TrendingLinks}, for a few hot codes and for a long tail of distinct ones.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TrendingBenchmark {
+
+    @Param({"16", "1000000"})
+    private int distinctCodes;
+
+    private TrendingLinks trendingLinks;
+    private String[] codes;
+
+    @Setup
+    public void setUp() {
+        trendingLinks = new TrendingLinks(new TrendingProperties(), new SimpleMeterRegistry());
+        codes = new String[distinctCodes];
+        for (int index = 0; index < codes.length; index++) {
+            codes[index] = "%07d".formatted(index);
+        }
+    }
+
+    @Benchmark
+    public void record() {
+        trendingLinks.record(codes[ThreadLocalRandom.current().nextInt(codes.length)]);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void recordContended() {
+        record();
+    }
+}
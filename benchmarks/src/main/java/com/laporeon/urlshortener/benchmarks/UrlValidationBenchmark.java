@@ -0,0 +1,51 @@
+package com.laporeon.urlshortener.benchmarks;
+
+import com.laporeon.urlshortener.utils.HttpUrl;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * The single-pass {@link HttpUrl} parser against the regular expression it replaced on
+ * {@code UrlRequestDTO.originalUrl}. Hostile inputs deep enough to overflow the regex's stack are
+ * left out of the regex benchmark, since there is nothing to time.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UrlValidationBenchmark {
+
+    private static final Pattern LEGACY_PATTERN = Pattern.compile("https?://([\\w-]+\\.)+[\\w-]+(:\\d+)?(/\\S*)?");
+
+    @Param({"short", "long", "invalid", "dotted-host-1k", "undotted-host-1k", "dotted-port-1k"})
+    private String input;
+
+    private String url;
+
+    @Setup
+    public void setUp() {
+        url = switch (input) {
+            case "short" -> "https://example.com";
+            case "long" -> "https://www.example.com:8443/" + "segment/".repeat(200) + "?q=1";
+            case "invalid" -> "ftp://example";
+            case "dotted-host-1k" -> "https://" + "a.".repeat(500) + "a!";
+            case "undotted-host-1k" -> "https://" + "a".repeat(1_000) + "!";
+            case "dotted-port-1k" -> "https://" + "ab.".repeat(333) + "a:1x";
+            default -> throw new IllegalArgumentException(input);
+        };
+    }
+
+    @Benchmark
+    public boolean regex() {
+        return LEGACY_PATTERN.matcher(url).matches();
+    }
+
+    @Benchmark
+    public boolean parser() {
+        return HttpUrl.isValid(url);
+    }
+}
@@ -0,0 +1,73 @@
+package com.laporeon.urlshortener.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Stored results of a reference run. A percentile regresses when it is above the baseline by more than
+ * both its relative tolerance and the absolute minimum, which keeps sub-millisecond jitter from failing runs.
+ */
+final class Baseline {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    private Baseline() {
+    }
+
+    static Map<String, ScenarioResult> read(Path path) throws IOException {
+        Map<String, ScenarioResult> results = new LinkedHashMap<>();
+
+        for (ScenarioResult result : MAPPER.readValue(path.toFile(), ScenarioResult[].class)) {
+            results.put(result.scenario(), result);
+        }
+        return results;
+    }
+
+    static void write(Path path, List<ScenarioResult> results) throws IOException {
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        MAPPER.writeValue(path.toFile(), results);
+    }
+
+    static List<String> regressions(Map<String, ScenarioResult> baseline,
+                                    List<ScenarioResult> results,
+                                    Map<String, Double> tolerances,
+                                    long minRegressionMicros) {
+        List<String> regressions = new ArrayList<>();
+
+        for (ScenarioResult result : results) {
+            ScenarioResult reference = baseline.get(result.scenario());
+
+            if (reference == null) {
+                continue;
+            }
+
+            if (result.errors() > 0) {
+                regressions.add("%s: %d requests got an unexpected status".formatted(result.scenario(), result.errors()));
+            }
+
+            tolerances.forEach((percentile, tolerance) -> {
+                long current = result.percentile(percentile);
+                long allowed = Math.max((long) (reference.percentile(percentile) * (1 + tolerance)),
+                                        reference.percentile(percentile) + minRegressionMicros);
+
+                if (current > allowed) {
+                    regressions.add("%s: %s is %d us, baseline %d us, allowed up to %d us"
+                                            .formatted(result.scenario(), percentile, current,
+                                                       reference.percentile(percentile), allowed));
+                }
+            });
+        }
+
+        return regressions;
+    }
+}
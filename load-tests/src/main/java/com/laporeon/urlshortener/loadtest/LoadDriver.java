@@ -0,0 +1,147 @@
+package com.laporeon.urlshortener.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Closed-loop load generator: a fixed number of virtual-thread workers each send a request, wait for
+ * the response and send the next one. Latency is recorded only after the warmup.
+ */
+final class LoadDriver {
+
+    private static final String CODE_CHARACTERS = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789";
+    private static final int SEED_BATCH_SIZE = 1000;
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+    private final String target;
+    private final LoadTestOptions options;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient client = HttpClient.newBuilder()
+                                                .version(HttpClient.Version.HTTP_1_1)
+                                                .followRedirects(HttpClient.Redirect.NEVER)
+                                                .connectTimeout(Duration.ofSeconds(5))
+                                                .build();
+
+    private List<String> seededCodes = List.of();
+
+    LoadDriver(String target, LoadTestOptions options) {
+        this.target = target;
+        this.options = options;
+    }
+
+    /**
+     * Creates the links the redirect scenario draws from, in batches.
+     */
+    void seed() throws IOException, InterruptedException {
+        List<String> codes = new ArrayList<>(options.links());
+
+        while (codes.size() < options.links()) {
+            int size = Math.min(SEED_BATCH_SIZE, options.links() - codes.size());
+            StringBuilder body = new StringBuilder("[");
+
+            for (int index = 0; index < size; index++) {
+                body.append(index == 0 ? "" : ",")
+                    .append("{\"originalUrl\":\"https://example.com/seed/").append(codes.size() + index).append("\"}");
+            }
+
+            HttpResponse<String> response = client.send(post("/shorten/batch", body.append(']').toString()),
+                                                         HttpResponse.BodyHandlers.ofString());
+
+            if (response.statusCode() != 201) {
+                throw new IllegalStateException("Seeding failed with status %d: %s".formatted(response.statusCode(), response.body()));
+            }
+
+            for (JsonNode link : objectMapper.readTree(response.body())) {
+                String shortUrl = link.get("shortUrl").asText();
+                codes.add(shortUrl.substring(shortUrl.lastIndexOf('/') + 1));
+            }
+        }
+
+        seededCodes = codes;
+    }
+
+    ScenarioResult run(Scenario scenario) throws InterruptedException {
+        Histogram latencies = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3);
+        AtomicLong errors = new AtomicLong();
+        ZipfSampler zipf = new ZipfSampler(Math.max(1, seededCodes.size()), options.zipfExponent());
+
+        long startedAt = System.nanoTime();
+        long measureFrom = startedAt + options.warmup().toNanos();
+        long stopAt = measureFrom + options.duration().toNanos();
+
+        try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int worker = 0; worker < options.concurrency(); worker++) {
+                workers.submit(() -> {
+                    long now;
+                    while ((now = System.nanoTime()) < stopAt) {
+                        boolean ok = send(scenario, zipf);
+                        long finishedAt = System.nanoTime();
+
+                        if (now >= measureFrom) {
+                            latencies.recordValue(Math.min(HIGHEST_TRACKABLE_MICROS, (finishedAt - now) / 1_000));
+                            if (!ok) {
+                                errors.incrementAndGet();
+                            }
+                        }
+                    }
+                });
+            }
+        }
+
+        return ScenarioResult.of(scenario.id(), latencies, errors.get(), options.duration().toNanos() / 1e9);
+    }
+
+    private boolean send(Scenario scenario, ZipfSampler zipf) {
+        HttpRequest request = switch (scenario) {
+            case REDIRECT_ZIPF -> get("/" + seededCodes.get(zipf.next()));
+            case CREATE_BURST -> post("/shorten", "{\"originalUrl\":\"https://example.com/burst/%d\"}"
+                    .formatted(ThreadLocalRandom.current().nextLong(Long.MAX_VALUE)));
+            case NOT_FOUND_STORM -> get("/" + randomCode());
+        };
+
+        try {
+            return client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == scenario.expectedStatus();
+        } catch (IOException ex) {
+            return false;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(URI.create(target + path)).GET().build();
+    }
+
+    private HttpRequest post(String path, String body) {
+        return HttpRequest.newBuilder(URI.create(target + path))
+                          .header("Content-Type", "application/json")
+                          .POST(HttpRequest.BodyPublishers.ofString(body))
+                          .build();
+    }
+
+    // Hitting a seeded code has a probability of links / 62^7; it would only show up as one error.
+    private static String randomCode() {
+        char[] code = new char[7];
+        for (int position = 0; position < code.length; position++) {
+            code[position] = CODE_CHARACTERS.charAt(ThreadLocalRandom.current().nextInt(CODE_CHARACTERS.length()));
+        }
+        return new String(code);
+    }
+}
@@ -0,0 +1,111 @@
+package com.laporeon.urlshortener.loadtest;
+
+import com.laporeon.urlshortener.UrlShortenerApplication;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Runs the load test scenarios against an application, prints the latency of each and compares it with
+ * the stored baseline. Exits with status 1 when a scenario regressed past its tolerance.
+ * <p>
+ * Without {@code --target} the application is started in this JVM on a random port with the embedded
+ * storage engine in a temporary directory, so no MongoDB is needed. Pass {@code --target=http://host:port}
+ * to drive an instance started separately, for example against the MongoDB from docker compose.
+ */
+public final class LoadTest {
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        System.exit(run(LoadTestOptions.parse(args)));
+    }
+
+    static int run(LoadTestOptions options) throws Exception {
+        ConfigurableApplicationContext application = null;
+        String target = options.target();
+
+        try {
+            if (target == null) {
+                application = startApplication(options);
+                target = "http://localhost:" + application.getEnvironment().getProperty("local.server.port");
+            }
+
+            LoadDriver driver = new LoadDriver(target, options);
+            driver.seed();
+
+            List<ScenarioResult> results = new ArrayList<>();
+            for (Scenario scenario : options.scenarios()) {
+                System.out.printf("Running %s for %ss after %ss warmup with %d workers%n", scenario.id(),
+                                  options.duration().toSeconds(), options.warmup().toSeconds(), options.concurrency());
+                results.add(driver.run(scenario));
+            }
+
+            print(results);
+            Baseline.write(options.report(), results);
+
+            if (options.updateBaseline()) {
+                Baseline.write(options.baseline(), results);
+                System.out.println("Baseline written to " + options.baseline());
+                return 0;
+            }
+
+            return gate(options, results);
+        } finally {
+            if (application != null) {
+                application.close();
+            }
+        }
+    }
+
+    private static ConfigurableApplicationContext startApplication(LoadTestOptions options) throws Exception {
+        Path directory = Files.createTempDirectory("url-shortener-load-test");
+
+        List<String> args = new ArrayList<>(List.of(
+                "--spring.profiles.active=embedded",
+                "--server.port=0",
+                "--spring.main.banner-mode=off",
+                "--app.storage.embedded.directory=" + directory,
+                // One client drives all the traffic, so per-client rate limiting would only measure itself.
+                "--app.admission.enabled=false",
+                "--logging.level.root=WARN"));
+        args.addAll(options.applicationArgs());
+
+        return SpringApplication.run(UrlShortenerApplication.class, args.toArray(String[]::new));
+    }
+
+    private static int gate(LoadTestOptions options, List<ScenarioResult> results) throws Exception {
+        if (!Files.exists(options.baseline())) {
+            System.out.println("No baseline at " + options.baseline() + ", run with --update-baseline to create one");
+            return 0;
+        }
+
+        List<String> regressions = Baseline.regressions(Baseline.read(options.baseline()), results,
+                                                        options.tolerances(), options.minRegressionMicros());
+
+        if (regressions.isEmpty()) {
+            System.out.println("No latency regressions against " + options.baseline());
+            return 0;
+        }
+
+        regressions.forEach(regression -> System.out.println("REGRESSION " + regression));
+        return 1;
+    }
+
+    private static void print(List<ScenarioResult> results) {
+        System.out.printf("%n%-16s %10s %8s %12s %10s %10s %10s %10s%n",
+                          "scenario", "requests", "errors", "req/s", "p50 us", "p99 us", "p999 us", "max us");
+
+        for (ScenarioResult result : results) {
+            System.out.printf("%-16s %10d %8d %12.1f %10d %10d %10d %10d%n",
+                              result.scenario(), result.requests(), result.errors(), result.throughput(),
+                              result.p50Micros(), result.p99Micros(), result.p999Micros(), result.maxMicros());
+        }
+        System.out.println();
+    }
+}
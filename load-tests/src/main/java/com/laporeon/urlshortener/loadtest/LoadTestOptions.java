@@ -0,0 +1,78 @@
+package com.laporeon.urlshortener.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Command line options, given as {@code --name=value}. Options starting with {@code --app.},
+ * {@code --spring.} or {@code --server.} are passed on to the application when it is started in-process.
+ */
+record LoadTestOptions(String target,
+                       List<Scenario> scenarios,
+                       int concurrency,
+                       Duration warmup,
+                       Duration duration,
+                       int links,
+                       double zipfExponent,
+                       Path baseline,
+                       Path report,
+                       boolean updateBaseline,
+                       Map<String, Double> tolerances,
+                       long minRegressionMicros,
+                       List<String> applicationArgs) {
+
+    static LoadTestOptions parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        List<String> applicationArgs = new ArrayList<>();
+
+        for (String arg : args) {
+            if (!arg.startsWith("--")) {
+                throw new IllegalArgumentException("Unexpected argument " + arg);
+            }
+
+            if (arg.startsWith("--app.") || arg.startsWith("--spring.") || arg.startsWith("--server.")) {
+                applicationArgs.add(arg);
+                continue;
+            }
+
+            int separator = arg.indexOf('=');
+            options.put(separator < 0 ? arg.substring(2) : arg.substring(2, separator),
+                        separator < 0 ? "true" : arg.substring(separator + 1));
+        }
+
+        LoadTestOptions parsed = new LoadTestOptions(
+                options.remove("target"),
+                Arrays.stream(options.getOrDefault("scenarios", "redirect-zipf,create-burst,not-found-storm").split(","))
+                      .map(Scenario::of)
+                      .toList(),
+                Integer.parseInt(options.getOrDefault("concurrency", "32")),
+                Duration.ofSeconds(Long.parseLong(options.getOrDefault("warmup", "5"))),
+                Duration.ofSeconds(Long.parseLong(options.getOrDefault("duration", "20"))),
+                Integer.parseInt(options.getOrDefault("links", "10000")),
+                Double.parseDouble(options.getOrDefault("zipf-exponent", "1.1")),
+                Path.of(options.getOrDefault("baseline", "load-tests/baseline.json")),
+                Path.of(options.getOrDefault("report", "load-tests/target/load-test-report.json")),
+                Boolean.parseBoolean(options.getOrDefault("update-baseline", "false")),
+                Map.of("p50", Double.parseDouble(options.getOrDefault("tolerance.p50", "0.25")),
+                       "p99", Double.parseDouble(options.getOrDefault("tolerance.p99", "0.50")),
+                       "p999", Double.parseDouble(options.getOrDefault("tolerance.p999", "1.00"))),
+                Long.parseLong(options.getOrDefault("min-regression-micros", "500")),
+                applicationArgs);
+
+        for (String name : List.of("scenarios", "concurrency", "warmup", "duration", "links", "zipf-exponent",
+                                   "baseline", "report", "update-baseline", "tolerance.p50", "tolerance.p99",
+                                   "tolerance.p999", "min-regression-micros")) {
+            options.remove(name);
+        }
+        if (!options.isEmpty()) {
+            throw new IllegalArgumentException("Unknown options " + options.keySet());
+        }
+
+        return parsed;
+    }
+}
@@ -0,0 +1,44 @@
+package com.laporeon.urlshortener.loadtest;
+
+import java.util.Arrays;
+
+enum Scenario {
+
+    /**
+     * Redirects to the seeded links, picked with a Zipf distribution so that a few links get most clicks.
+     */
+    REDIRECT_ZIPF("redirect-zipf", 302),
+
+    /**
+     * Every worker creating links back to back.
+     */
+    CREATE_BURST("create-burst", 201),
+
+    /**
+     * Redirects to well-formed codes that were never issued.
+     */
+    NOT_FOUND_STORM("not-found-storm", 404);
+
+    private final String id;
+    private final int expectedStatus;
+
+    Scenario(String id, int expectedStatus) {
+        this.id = id;
+        this.expectedStatus = expectedStatus;
+    }
+
+    static Scenario of(String id) {
+        return Arrays.stream(values())
+                     .filter(scenario -> scenario.id.equals(id.trim()))
+                     .findFirst()
+                     .orElseThrow(() -> new IllegalArgumentException("Unknown scenario " + id));
+    }
+
+    String id() {
+        return id;
+    }
+
+    int expectedStatus() {
+        return expectedStatus;
+    }
+}
@@ -0,0 +1,36 @@
+package com.laporeon.urlshortener.loadtest;
+
+import org.HdrHistogram.Histogram;
+
+/**
+ * Outcome of one scenario. Latencies are in microseconds.
+ */
+record ScenarioResult(String scenario,
+                      long requests,
+                      long errors,
+                      double throughput,
+                      long p50Micros,
+                      long p99Micros,
+                      long p999Micros,
+                      long maxMicros) {
+
+    static ScenarioResult of(String scenario, Histogram latencies, long errors, double seconds) {
+        return new ScenarioResult(scenario,
+                                  latencies.getTotalCount(),
+                                  errors,
+                                  latencies.getTotalCount() / seconds,
+                                  latencies.getValueAtPercentile(50),
+                                  latencies.getValueAtPercentile(99),
+                                  latencies.getValueAtPercentile(99.9),
+                                  latencies.getMaxValue());
+    }
+
+    long percentile(String name) {
+        return switch (name) {
+            case "p50" -> p50Micros;
+            case "p99" -> p99Micros;
+            case "p999" -> p999Micros;
+            default -> throw new IllegalArgumentException("Unknown percentile " + name);
+        };
+    }
+}
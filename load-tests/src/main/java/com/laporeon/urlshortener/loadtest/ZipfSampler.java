@@ -0,0 +1,31 @@
+package com.laporeon.urlshortener.loadtest;
+
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Samples ranks 0..n-1 with probability proportional to 1 / (rank + 1)^exponent by binary search over
+ * the precomputed cumulative distribution.
+ */
+final class ZipfSampler {
+
+    private final double[] cumulative;
+
+    ZipfSampler(int n, double exponent) {
+        cumulative = new double[n];
+
+        double sum = 0;
+        for (int rank = 0; rank < n; rank++) {
+            sum += 1 / Math.pow(rank + 1, exponent);
+            cumulative[rank] = sum;
+        }
+        for (int rank = 0; rank < n; rank++) {
+            cumulative[rank] /= sum;
+        }
+    }
+
+    int next() {
+        int index = Arrays.binarySearch(cumulative, ThreadLocalRandom.current().nextDouble());
+        return Math.min(index < 0 ? -index - 1 : index, cumulative.length - 1);
+    }
+}
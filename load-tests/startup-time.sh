@@ -0,0 +1,65 @@
+#!/usr/bin/env sh
+# Measures time-to-first-redirect of the application in three startup modes: the plain executable jar,
+# the extracted jar with a class data sharing archive, and the same plus Spring AOT. Each run starts a
+# fresh JVM and polls a seeded short code until it answers with a redirect.
+#
+# Build the jar with AOT code for the profile used here first:
+#   mvn package -DskipTests -Pfast-startup -Daot.profiles=embedded
+#
+# Usage: load-tests/startup-time.sh [runs per mode, default 5]
+set -eu
+
+RUNS=${1:-5}
+PORT=${PORT:-18090}
+JAR=$(ls target/*-exec.jar)
+WORK=$(mktemp -d)
+ARGS="--spring.profiles.active=embedded --app.storage.embedded.directory=$WORK/data --server.port=$PORT --spring.main.banner-mode=off --logging.level.root=WARN"
+
+trap 'kill $PID 2>/dev/null || true; rm -rf "$WORK"' EXIT
+PID=
+
+now_ms() {
+  date +%s%3N
+}
+
+wait_for() {
+  until [ "$(curl -s -o /dev/null -w '%{http_code}' "$1" || true)" = "$2" ]; do
+    sleep 0.01
+  done
+}
+
+# Seeds one link for the timed runs to redirect.
+java -jar "$JAR" $ARGS >/dev/null 2>&1 &
+PID=$!
+wait_for "http://localhost:$PORT/actuator/health" 200
+CODE=$(curl -s -H 'Content-Type: application/json' -d '{"originalUrl":"https://example.com"}' \
+  "http://localhost:$PORT/shorten" | sed 's|.*/\([A-Za-z0-9]\{7\}\)".*|\1|')
+kill $PID && wait $PID 2>/dev/null || true
+
+# Extracted layout plus a class data sharing archive recorded by a training run that stops after refresh.
+java -Djarmode=tools -jar "$JAR" extract --destination "$WORK/app" >/dev/null
+APP_JAR=$(ls "$WORK"/app/*.jar)
+java -XX:ArchiveClassesAtExit="$WORK/app/application.jsa" -Dspring.context.exit=onRefresh -Dspring.aot.enabled=true \
+  -jar "$APP_JAR" $ARGS >/dev/null 2>&1
+
+time_mode() {
+  total=0
+  printf '%-10s' "$1"
+  shift
+  for run in $(seq "$RUNS"); do
+    start=$(now_ms)
+    "$@" $ARGS >/dev/null 2>&1 &
+    PID=$!
+    wait_for "http://localhost:$PORT/$CODE" 302
+    elapsed=$(( $(now_ms) - start ))
+    kill $PID && wait $PID 2>/dev/null || true
+    total=$(( total + elapsed ))
+    printf '%8d' "$elapsed"
+  done
+  printf '   mean %d ms\n' $(( total / RUNS ))
+}
+
+echo "Time to first redirect of /$CODE in ms, $RUNS runs per mode"
+time_mode jar     java -jar "$JAR"
+time_mode cds     java -XX:SharedArchiveFile="$WORK/app/application.jsa" -jar "$APP_JAR"
+time_mode cds+aot java -XX:SharedArchiveFile="$WORK/app/application.jsa" -Dspring.aot.enabled=true -jar "$APP_JAR"
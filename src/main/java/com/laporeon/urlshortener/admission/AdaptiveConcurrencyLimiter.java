@@ -0,0 +1,112 @@
+package com.laporeon.urlshortener.admission;
+
+import com.laporeon.urlshortener.config.properties.AdmissionProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Global limit on concurrent requests that follows the latency gradient: the ratio between the long-term
+ * average latency and the latest sample. While latency stays within the tolerance of its average the
+ * limit grows by roughly its square root per sample; once queueing pushes latency up the gradient drops
+ * below one and the limit shrinks proportionally, so excess requests are refused before they pile up in
+ * front of the database. The limit only grows while at least half of it is in use.
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.admission", name = "enabled", havingValue = "true", matchIfMissing = true)
+@EnableConfigurationProperties(AdmissionProperties.class)
+public class AdaptiveConcurrencyLimiter {
+
+    private static final double MIN_GRADIENT = 0.5;
+
+    private final AtomicInteger inflight = new AtomicInteger();
+    private final int minLimit;
+    private final int maxLimit;
+    private final double tolerance;
+    private final double smoothing;
+    private final int window;
+    private final Counter rejections;
+
+    private volatile double limit;
+    private double longRttNanos;
+
+    @Autowired
+    public AdaptiveConcurrencyLimiter(AdmissionProperties properties, MeterRegistry meterRegistry) {
+        this(properties.getConcurrency(), meterRegistry);
+    }
+
+    AdaptiveConcurrencyLimiter(AdmissionProperties.Concurrency properties, MeterRegistry meterRegistry) {
+        this.limit = properties.getInitialLimit();
+        this.minLimit = properties.getMinLimit();
+        this.maxLimit = properties.getMaxLimit();
+        this.tolerance = properties.getTolerance();
+        this.smoothing = properties.getSmoothing();
+        this.window = properties.getWindow();
+        this.rejections = meterRegistry.counter("admission.rejections", "reason", "overloaded");
+
+        Gauge.builder("admission.concurrency.limit", this, AdaptiveConcurrencyLimiter::getLimit).register(meterRegistry);
+        Gauge.builder("admission.concurrency.inflight", inflight, AtomicInteger::get).register(meterRegistry);
+    }
+
+    public boolean tryAcquire() {
+        if (inflight.incrementAndGet() > (int) limit) {
+            inflight.decrementAndGet();
+            rejections.increment();
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Releases a slot taken by {@link #tryAcquire()}.
+     *
+     * @param rttNanos latency of the request, or a negative value if it failed and says nothing about load
+     */
+    public void release(long rttNanos) {
+        int inflightAtCompletion = inflight.getAndDecrement();
+
+        if (rttNanos >= 0) {
+            onSample(rttNanos, inflightAtCompletion);
+        }
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public int getInflight() {
+        return inflight.get();
+    }
+
+    public double rejectedCount() {
+        return rejections.count();
+    }
+
+    private synchronized void onSample(long rttNanos, int inflightAtCompletion) {
+        double rtt = Math.max(1, rttNanos);
+        longRttNanos = longRttNanos == 0 ? rtt : longRttNanos + (rtt - longRttNanos) / window;
+
+        // After a sustained slowdown the average lags far behind; pull it in so the limit can recover.
+        if (longRttNanos > rtt * 2) {
+            longRttNanos = longRttNanos * 0.95;
+        }
+
+        double current = limit;
+
+        if (inflightAtCompletion < current / 2) {
+            return;
+        }
+
+        double gradient = Math.max(MIN_GRADIENT, Math.min(1.0, tolerance * longRttNanos / rtt));
+        double estimate = current * gradient + Math.sqrt(current);
+        double next = current * (1 - smoothing) + estimate * smoothing;
+
+        limit = Math.max(minLimit, Math.min(maxLimit, next));
+    }
+}
@@ -0,0 +1,34 @@
+package com.laporeon.urlshortener.admission;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Exposes the current state of admission control at {@code /actuator/admission}.
+ */
+@Component
+@Endpoint(id = "admission")
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.admission", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class AdmissionEndpoint {
+
+    private final ClientRateLimiter clientRateLimiter;
+    private final AdaptiveConcurrencyLimiter concurrencyLimiter;
+
+    @ReadOperation
+    public Map<String, Object> admission() {
+        return Map.of(
+                "concurrency", Map.of(
+                        "limit", concurrencyLimiter.getLimit(),
+                        "inflight", concurrencyLimiter.getInflight(),
+                        "rejected", (long) concurrencyLimiter.rejectedCount()),
+                "rateLimit", Map.of(
+                        "trackedClients", clientRateLimiter.trackedClients(),
+                        "rejected", (long) clientRateLimiter.rejectedCount()));
+    }
+}
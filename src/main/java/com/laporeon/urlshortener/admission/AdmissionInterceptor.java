@@ -0,0 +1,56 @@
+package com.laporeon.urlshortener.admission;
+
+import com.laporeon.urlshortener.exceptions.RateLimitExceededException;
+import com.laporeon.urlshortener.exceptions.ServiceOverloadedException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Admits a request only if its client still has a token and a concurrency slot is free. The client is
+ * the remote address, which Tomcat's {@code RemoteIpValve} replaces with the forwarded one only when the
+ * request came through a proxy in {@code server.tomcat.remoteip.internal-proxies}. Rejections surface as
+ * exceptions so that they get the same error body as every other failure.
+ */
+@RequiredArgsConstructor
+public class AdmissionInterceptor implements HandlerInterceptor {
+
+    private static final String STARTED_AT_ATTRIBUTE = AdmissionInterceptor.class.getName() + ".startedAt";
+
+    private final ClientRateLimiter clientRateLimiter;
+    private final AdaptiveConcurrencyLimiter concurrencyLimiter;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        long waitNanos = clientRateLimiter.tryAcquire(request.getRemoteAddr());
+
+        if (waitNanos > 0) {
+            throw new RateLimitExceededException(TimeUnit.NANOSECONDS.toSeconds(waitNanos) + 1);
+        }
+
+        if (!concurrencyLimiter.tryAcquire()) {
+            throw new ServiceOverloadedException();
+        }
+
+        request.setAttribute(STARTED_AT_ATTRIBUTE, System.nanoTime());
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        Object startedAt = request.getAttribute(STARTED_AT_ATTRIBUTE);
+
+        if (startedAt == null) {
+            return;
+        }
+
+        request.removeAttribute(STARTED_AT_ATTRIBUTE);
+
+        // Only successful requests say something about how long the work takes under the current load.
+        boolean sample = ex == null && response.getStatus() < HttpServletResponse.SC_BAD_REQUEST;
+        concurrencyLimiter.release(sample ? System.nanoTime() - (long) startedAt : -1);
+    }
+}
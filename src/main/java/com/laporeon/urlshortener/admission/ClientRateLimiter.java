@@ -0,0 +1,118 @@
+package com.laporeon.urlshortener.admission;
+
+import com.laporeon.urlshortener.config.properties.AdmissionProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Token bucket per client, kept as the generic cell rate algorithm: each bucket is a single
+ * {@link AtomicLong} holding the time at which it would be full again, advanced with a compare-and-set.
+ * Buckets live in a {@link ConcurrentHashMap}, so admitting a request takes no lock. A bucket whose
+ * refill time has passed is indistinguishable from a new one and is dropped by the periodic cleanup.
+ * <p>
+ * Clients are keyed by remote address, which only comes from {@code X-Forwarded-For} when the request was
+ * relayed by a trusted proxy (see {@code server.tomcat.remoteip.internal-proxies}), so callers cannot
+ * pick a new key for every request.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "app.admission", name = "enabled", havingValue = "true", matchIfMissing = true)
+@EnableConfigurationProperties(AdmissionProperties.class)
+public class ClientRateLimiter {
+
+    private final ConcurrentMap<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+    private final long emissionIntervalNanos;
+    private final long burstNanos;
+    private final int maxClients;
+    private final LongSupplier nanoClock;
+    private final Counter rejections;
+
+    @Autowired
+    public ClientRateLimiter(AdmissionProperties properties, MeterRegistry meterRegistry) {
+        this(properties.getRateLimit(), meterRegistry, System::nanoTime);
+    }
+
+    ClientRateLimiter(AdmissionProperties.RateLimit properties, MeterRegistry meterRegistry, LongSupplier nanoClock) {
+        this.emissionIntervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / properties.getRefillRate());
+        this.burstNanos = emissionIntervalNanos * properties.getBurst();
+        this.maxClients = properties.getMaxClients();
+        this.nanoClock = nanoClock;
+        this.rejections = meterRegistry.counter("admission.rejections", "reason", "rate_limited");
+
+        Gauge.builder("admission.clients", buckets, ConcurrentMap::size).register(meterRegistry);
+    }
+
+    /**
+     * Takes a token from the client's bucket.
+     *
+     * @return 0 if the request is admitted, otherwise the nanoseconds until the next token is available
+     */
+    public long tryAcquire(String client) {
+        long now = nanoClock.getAsLong();
+        AtomicLong bucket = buckets.computeIfAbsent(client, key -> new AtomicLong(now));
+
+        while (true) {
+            long fullAt = bucket.get();
+            long next = (fullAt - now < 0 ? now : fullAt) + emissionIntervalNanos;
+
+            if (next - now > burstNanos) {
+                rejections.increment();
+                return next - now - burstNanos;
+            }
+
+            if (bucket.compareAndSet(fullAt, next)) {
+                return 0;
+            }
+        }
+    }
+
+    public int trackedClients() {
+        return buckets.size();
+    }
+
+    public double rejectedCount() {
+        return rejections.count();
+    }
+
+    @Scheduled(fixedDelayString = "${app.admission.rate-limit.cleanup-interval:1m}")
+    public void cleanup() {
+        long now = nanoClock.getAsLong();
+        buckets.values().removeIf(bucket -> bucket.get() - now < 0);
+
+        int excess = buckets.size() - maxClients;
+        if (excess > 0) {
+            log.warn("Client rate limiter over capacity, evicting the closest to full | clients={} | maxClients={}",
+                     buckets.size(), maxClients);
+            evictClosestToFull(excess, now);
+        }
+    }
+
+    /**
+     * Drops the buckets that would refill first. Those clients lose the least by starting over with a full
+     * bucket, while the ones that used up their burst, and a flood of one-off client keys can never push
+     * out, keep being limited.
+     */
+    private void evictClosestToFull(int count, long now) {
+        long[] refillNanos = buckets.values().stream().mapToLong(bucket -> bucket.get() - now).sorted().toArray();
+
+        if (refillNanos.length == 0) {
+            return;
+        }
+
+        long threshold = refillNanos[Math.min(count, refillNanos.length) - 1];
+        buckets.values().removeIf(bucket -> bucket.get() - now <= threshold);
+    }
+}
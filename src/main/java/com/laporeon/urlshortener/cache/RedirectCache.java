@@ -0,0 +1,102 @@
+package com.laporeon.urlshortener.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.laporeon.urlshortener.config.properties.RedirectCacheProperties;
+import com.laporeon.urlshortener.entities.Url;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * Bounded in-process cache of short code to redirect target mappings.
+ * Caffeine's W-TinyLFU policy admits and evicts entries by frequency and recency,
+ * and every entry expires no later than the {@link Url#getExpiresAt()} of its mapping.
+ */
+@Component
+@EnableConfigurationProperties(RedirectCacheProperties.class)
+public class RedirectCache {
+
+    private static final String CACHE_NAME = "redirect";
+
+    private final boolean enabled;
+    private final Cache<String, Url> cache;
+
+    public RedirectCache(RedirectCacheProperties properties, MeterRegistry meterRegistry) {
+        this.enabled = properties.isEnabled();
+        this.cache = buildCache(properties);
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    public Optional<Url> get(String shortCode) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+
+        Url url = cache.getIfPresent(shortCode);
+
+        if (url == null || isExpired(url)) {
+            return Optional.empty();
+        }
+
+        return Optional.of(url);
+    }
+
+    public void put(Url url) {
+        if (enabled && !isExpired(url)) {
+            cache.put(url.getShortCode(), url);
+        }
+    }
+
+    private static boolean isExpired(Url url) {
+        return url.getExpiresAt() != null && !url.getExpiresAt().isAfter(Instant.now());
+    }
+
+    private static Cache<String, Url> buildCache(RedirectCacheProperties properties) {
+        Caffeine<Object, Object> builder = Caffeine.newBuilder()
+                                                   .initialCapacity(properties.getInitialCapacity())
+                                                   .recordStats();
+
+        if (properties.getPolicy() == RedirectCacheProperties.Policy.WEIGHT) {
+            builder.maximumWeight(properties.getMaximumWeight());
+            return builder.weigher((String shortCode, Url url) -> shortCode.length() + url.getOriginalUrl().length())
+                          .expireAfter(new ExpiresAtExpiry(properties.getMaxTimeToLive()))
+                          .build();
+        }
+
+        builder.maximumSize(properties.getMaximumSize());
+        return builder.expireAfter(new ExpiresAtExpiry(properties.getMaxTimeToLive())).build();
+    }
+
+    private record ExpiresAtExpiry(Duration maxTimeToLive) implements Expiry<String, Url> {
+
+        @Override
+        public long expireAfterCreate(String shortCode, Url url, long currentTime) {
+            long maxNanos = maxTimeToLive.toNanos();
+
+            if (url.getExpiresAt() == null) {
+                return maxNanos;
+            }
+
+            long remainingNanos = Duration.between(Instant.now(), url.getExpiresAt()).toNanos();
+            return Math.max(0, Math.min(remainingNanos, maxNanos));
+        }
+
+        @Override
+        public long expireAfterUpdate(String shortCode, Url url, long currentTime, long currentDuration) {
+            return expireAfterCreate(shortCode, url, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String shortCode, Url url, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.laporeon.urlshortener.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Thread-safe scalable Bloom filter. When the newest stage reaches its capacity, a stage twice
+ * as large with half the false-positive rate is added, so the compound rate stays below the
+ * configured one no matter how many codes are inserted.
+ */
+public class ScalableBloomFilter {
+
+    private static final double TIGHTENING_RATIO = 0.5;
+
+    private volatile Stage[] stages;
+
+    public ScalableBloomFilter(long expectedInsertions, double falsePositiveRate) {
+        this.stages = new Stage[]{new Stage(expectedInsertions, falsePositiveRate * (1 - TIGHTENING_RATIO))};
+    }
+
+    public void add(String value) {
+        long hash = hash(value);
+        Stage[] current = stages;
+        Stage last = current[current.length - 1];
+
+        if (last.isFull()) {
+            last = grow(last);
+        }
+
+        last.add(hash);
+    }
+
+    public boolean mightContain(String value) {
+        long hash = hash(value);
+        for (Stage stage : stages) {
+            if (stage.mightContain(hash)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public long memoryBytes() {
+        long bytes = 0;
+        for (Stage stage : stages) {
+            bytes += stage.bits.length() * Long.BYTES;
+        }
+        return bytes;
+    }
+
+    /**
+     * False-positive probability estimated from the actual fill of every stage.
+     */
+    public double expectedFalsePositiveRate() {
+        double allStagesMiss = 1.0;
+        for (Stage stage : stages) {
+            allStagesMiss *= 1.0 - stage.expectedFalsePositiveRate();
+        }
+        return 1.0 - allStagesMiss;
+    }
+
+    private synchronized Stage grow(Stage full) {
+        Stage[] current = stages;
+        Stage last = current[current.length - 1];
+
+        if (last != full) {
+            return last;
+        }
+
+        Stage next = new Stage(full.capacity * 2, full.targetFalsePositiveRate * TIGHTENING_RATIO);
+        Stage[] grown = new Stage[current.length + 1];
+        System.arraycopy(current, 0, grown, 0, current.length);
+        grown[current.length] = next;
+        stages = grown;
+
+        return next;
+    }
+
+    private static long hash(String value) {
+        long hash = 0xCBF29CE484222325L;
+        for (byte b : value.getBytes(StandardCharsets.US_ASCII)) {
+            hash = (hash ^ b) * 0x100000001B3L;
+        }
+        return mix(hash);
+    }
+
+    private static long mix(long z) {
+        z = (z ^ (z >>> 33)) * 0xFF51AFD7ED558CCDL;
+        z = (z ^ (z >>> 33)) * 0xC4CEB9FE1A85EC53L;
+        return z ^ (z >>> 33);
+    }
+
+    private static final class Stage {
+
+        private final long capacity;
+        private final double targetFalsePositiveRate;
+        private final AtomicLongArray bits;
+        private final long bitCount;
+        private final int hashFunctions;
+        private final AtomicLong insertions = new AtomicLong();
+
+        private Stage(long capacity, double targetFalsePositiveRate) {
+            this.capacity = capacity;
+            this.targetFalsePositiveRate = targetFalsePositiveRate;
+
+            long optimalBits = (long) Math.ceil(-capacity * Math.log(targetFalsePositiveRate) / (Math.log(2) * Math.log(2)));
+            this.bits = new AtomicLongArray(Math.toIntExact((optimalBits + 63) / 64));
+            this.bitCount = bits.length() * 64L;
+            this.hashFunctions = Math.max(1, (int) Math.round((double) bitCount / capacity * Math.log(2)));
+        }
+
+        private boolean isFull() {
+            return insertions.get() >= capacity;
+        }
+
+        private void add(long hash) {
+            long h1 = hash;
+            long h2 = mix(hash) | 1;
+            for (int i = 0; i < hashFunctions; i++) {
+                long bit = Math.floorMod(h1 + i * h2, bitCount);
+                long mask = 1L << bit;
+                int word = (int) (bit >>> 6);
+                bits.getAndAccumulate(word, mask, (current, set) -> current | set);
+            }
+            insertions.incrementAndGet();
+        }
+
+        private boolean mightContain(long hash) {
+            long h1 = hash;
+            long h2 = mix(hash) | 1;
+            for (int i = 0; i < hashFunctions; i++) {
+                long bit = Math.floorMod(h1 + i * h2, bitCount);
+                if ((bits.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private double expectedFalsePositiveRate() {
+            double fill = 1.0 - Math.exp(-(double) hashFunctions * insertions.get() / bitCount);
+            return Math.pow(fill, hashFunctions);
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.laporeon.urlshortener.cache;
+
+import com.laporeon.urlshortener.config.properties.ShortCodeFilterProperties;
+import com.laporeon.urlshortener.storage.UrlStore;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+
+/**
+ * Bloom filter of every live short code, used to answer 404 for never-issued codes without a query.
+ * It is rebuilt from Mongo periodically, which also ages out expired codes, and kept up to date
+ * between rebuilds by local inserts plus an incremental sync of codes created by other instances.
+ * Until the first build completes every code is treated as possibly present.
+ */
+@Slf4j
+@Component
+@EnableConfigurationProperties(ShortCodeFilterProperties.class)
+public class ShortCodeFilter {
+
+    private final UrlStore urlStore;
+    private final ShortCodeFilterProperties properties;
+    private final Counter checkCounter;
+    private final Counter falsePositiveCounter;
+
+    private volatile ScalableBloomFilter filter;
+    private volatile ScalableBloomFilter building;
+    private volatile Instant lastSync;
+
+    public ShortCodeFilter(UrlStore urlStore, ShortCodeFilterProperties properties, MeterRegistry meterRegistry) {
+        this.urlStore = urlStore;
+        this.properties = properties;
+        this.checkCounter = meterRegistry.counter("url.short_code_filter.positives");
+        this.falsePositiveCounter = meterRegistry.counter("url.short_code_filter.false_positives");
+
+        Gauge.builder("url.short_code_filter.memory", this, f -> f.filter == null ? 0 : f.filter.memoryBytes())
+             .baseUnit("bytes")
+             .register(meterRegistry);
+        Gauge.builder("url.short_code_filter.expected_false_positive_rate",
+                      this, f -> f.filter == null ? 0 : f.filter.expectedFalsePositiveRate())
+             .register(meterRegistry);
+    }
+
+    public boolean isDefinitelyAbsent(String shortCode) {
+        ScalableBloomFilter current = filter;
+
+        if (!properties.isEnabled() || current == null) {
+            return false;
+        }
+
+        if (current.mightContain(shortCode)) {
+            checkCounter.increment();
+            return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Like {@link #isDefinitelyAbsent(String)} negated, but without counting the check, and false while the
+     * filter is disabled or not built yet since it then knows nothing about the code.
+     */
+    public boolean mightContain(String shortCode) {
+        ScalableBloomFilter current = filter;
+        return properties.isEnabled() && current != null && current.mightContain(shortCode);
+    }
+
+    /**
+     * Records that a code the filter let through was not found in the database.
+     */
+    public void recordFalsePositive() {
+        if (properties.isEnabled() && filter != null) {
+            falsePositiveCounter.increment();
+        }
+    }
+
+    public void add(String shortCode) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+
+        ScalableBloomFilter current = filter;
+        ScalableBloomFilter next = building;
+
+        if (current != null) {
+            current.add(shortCode);
+        }
+        if (next != null) {
+            next.add(shortCode);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.short-code-filter.rebuild-interval:1h}")
+    public void rebuild() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+
+        Instant startedAt = Instant.now();
+        ScalableBloomFilter fresh = new ScalableBloomFilter(properties.getExpectedInsertions(),
+                                                            properties.getFalsePositiveRate());
+        building = fresh;
+
+        try {
+            urlStore.streamLiveShortCodes(null, fresh::add);
+            filter = fresh;
+            lastSync = startedAt;
+
+            log.info("Short code filter rebuilt | memoryBytes={} | expectedFalsePositiveRate={}",
+                     fresh.memoryBytes(), fresh.expectedFalsePositiveRate());
+        } catch (RuntimeException ex) {
+            log.warn("Failed to rebuild short code filter | message={}", ex.getMessage());
+        } finally {
+            building = null;
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.short-code-filter.sync-interval:5s}")
+    public void sync() {
+        Instant since = lastSync;
+
+        if (!properties.isEnabled() || filter == null || since == null) {
+            return;
+        }
+
+        Instant startedAt = Instant.now();
+
+        try {
+            urlStore.streamLiveShortCodes(since.minus(properties.getSyncOverlap()), this::add);
+            lastSync = startedAt;
+        } catch (RuntimeException ex) {
+            log.warn("Failed to sync short code filter | message={}", ex.getMessage());
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.laporeon.urlshortener.config;
+
+import com.laporeon.urlshortener.admission.AdaptiveConcurrencyLimiter;
+import com.laporeon.urlshortener.admission.AdmissionInterceptor;
+import com.laporeon.urlshortener.admission.ClientRateLimiter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+@RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnProperty(prefix = "app.admission", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class AdmissionConfiguration implements WebMvcConfigurer {
+
+    private final ClientRateLimiter clientRateLimiter;
+    private final AdaptiveConcurrencyLimiter concurrencyLimiter;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new AdmissionInterceptor(clientRateLimiter, concurrencyLimiter))
+                .addPathPatterns("/shorten", "/shorten/batch");
+    }
+}
@@ -1,15 +0,0 @@
-package com.laporeon.urlshortener.config;
-
-import org.springframework.context.annotation.Bean;
-import org.springframework.context.annotation.Configuration;
-import org.springframework.web.filter.ForwardedHeaderFilter;
-
-@Configuration
-public class ForwardedHeaderFilterConfiguration {
-
-    @Bean
-    public ForwardedHeaderFilter forwardedHeaderFilter() {
-        return new ForwardedHeaderFilter();
-    }
-
-}
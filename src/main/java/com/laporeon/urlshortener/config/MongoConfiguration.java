@@ -1,11 +1,72 @@
 package com.laporeon.urlshortener.config;
 
+import com.laporeon.urlshortener.config.properties.MongoClientProperties;
+import com.laporeon.urlshortener.config.properties.StorageProperties;
+import com.laporeon.urlshortener.logging.SlowOperationLog;
+import com.laporeon.urlshortener.metrics.MongoPoolMetrics;
+import com.laporeon.urlshortener.repositories.ReactiveUrlRepository;
+import com.mongodb.WriteConcern;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.FilterType;
 import org.springframework.data.mongodb.config.EnableMongoAuditing;
 import org.springframework.data.mongodb.repository.config.EnableMongoRepositories;
 
+import java.util.concurrent.TimeUnit;
+
 @Configuration
+@ConditionalOnProperty(prefix = "app.storage", name = "engine", havingValue = "mongo", matchIfMissing = true)
 @EnableMongoAuditing
-@EnableMongoRepositories(basePackages = "com.laporeon.urlshortener.repositories")
+@EnableConfigurationProperties({MongoClientProperties.class, StorageProperties.class})
+@EnableMongoRepositories(
+        basePackages = "com.laporeon.urlshortener.repositories",
+        excludeFilters = @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE, classes = ReactiveUrlRepository.class))
 public class MongoConfiguration {
+
+    /**
+     * Pool sizing from {@code app.mongo.pool}, plus the pool wait metrics. Per command latency comes from
+     * the command listener Spring Boot registers, published as a histogram by application.properties.
+     */
+    @Bean
+    public MongoClientSettingsBuilderCustomizer connectionPool(MongoClientProperties properties,
+                                                               MeterRegistry meterRegistry) {
+        MongoClientProperties.Pool pool = properties.getPool();
+        MongoPoolMetrics poolMetrics = new MongoPoolMetrics(meterRegistry);
+
+        return builder -> builder.applyToConnectionPoolSettings(settings -> settings
+                .maxSize(pool.getMaxSize())
+                .minSize(pool.getMinSize())
+                .maxWaitTime(pool.getMaxWaitTime().toMillis(), TimeUnit.MILLISECONDS)
+                .maxConnecting(pool.getMaxConnecting())
+                .maxConnectionIdleTime(pool.getMaxConnectionIdleTime().toMillis(), TimeUnit.MILLISECONDS)
+                .addConnectionPoolListener(poolMetrics));
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "app.mongo.slow-operations", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public MongoClientSettingsBuilderCustomizer slowOperationLog(MongoClientProperties properties) {
+        SlowOperationLog slowOperationLog = new SlowOperationLog(properties.getSlowOperations().getThreshold());
+        return builder -> builder.addCommandListener(slowOperationLog);
+    }
+
+    /**
+     * Secondaries only serve a new link once it has replicated, and a write acknowledged by the primary
+     * alone can still be rolled back, so with secondary reads every write waits for a majority. Always
+     * registered and decided here, since AOT would otherwise fix the choice when the image is built.
+     */
+    @Bean
+    public MongoClientSettingsBuilderCustomizer majorityWriteConcern(StorageProperties properties) {
+        boolean secondaryReads = properties.getSecondaryReads().isEnabled();
+
+        return builder -> {
+            if (secondaryReads) {
+                builder.writeConcern(WriteConcern.MAJORITY);
+            }
+        };
+    }
 }
@@ -0,0 +1,16 @@
+package com.laporeon.urlshortener.config;
+
+import com.laporeon.urlshortener.repositories.ReactiveUrlRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.data.mongodb.repository.config.EnableReactiveMongoRepositories;
+
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@EnableReactiveMongoRepositories(
+        basePackages = "com.laporeon.urlshortener.repositories",
+        includeFilters = @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE, classes = ReactiveUrlRepository.class))
+public class ReactiveMongoConfiguration {
+}
@@ -0,0 +1,16 @@
+package com.laporeon.urlshortener.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "app.access-log")
+public class AccessLogProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * Fraction of redirects written to the access log, from 0.0 (none) to 1.0 (all).
+     */
+    private double sampleRate = 1.0;
+}
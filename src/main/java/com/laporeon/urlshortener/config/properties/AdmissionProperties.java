@@ -0,0 +1,67 @@
+package com.laporeon.urlshortener.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "app.admission")
+public class AdmissionProperties {
+
+    /**
+     * Admission control in front of the shorten endpoints: a token bucket per client IP, then a global
+     * concurrency limit that adapts to the observed latency.
+     */
+    private boolean enabled = true;
+
+    private RateLimit rateLimit = new RateLimit();
+
+    private Concurrency concurrency = new Concurrency();
+
+    @Data
+    public static class RateLimit {
+
+        /**
+         * Requests a client may send in a burst before being held to the refill rate.
+         */
+        private int burst = 20;
+
+        /**
+         * Requests per second a client is allowed on average.
+         */
+        private double refillRate = 5;
+
+        /**
+         * Clients tracked at once. When a cleanup still finds more, the ones closest to a full bucket are dropped.
+         */
+        private int maxClients = 100_000;
+
+        private Duration cleanupInterval = Duration.ofMinutes(1);
+    }
+
+    @Data
+    public static class Concurrency {
+
+        private int initialLimit = 20;
+
+        private int minLimit = 4;
+
+        private int maxLimit = 200;
+
+        /**
+         * How far latency may rise above its long-term average before the limit starts shrinking.
+         */
+        private double tolerance = 2.0;
+
+        /**
+         * Weight given to every new limit estimate, between 0 and 1.
+         */
+        private double smoothing = 0.2;
+
+        /**
+         * Number of samples the long-term latency average spans.
+         */
+        private int window = 500;
+    }
+}
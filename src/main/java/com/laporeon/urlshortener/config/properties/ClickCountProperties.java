@@ -0,0 +1,17 @@
+package com.laporeon.urlshortener.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "app.click-count")
+public class ClickCountProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * Maximum number of click events held between flushes. Events arriving while the buffer is
+     * full are dropped and counted in the url.clicks.dropped metric, so redirects never wait on it.
+     */
+    private int bufferSize = 100_000;
+}
@@ -0,0 +1,29 @@
+package com.laporeon.urlshortener.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "app.dedup")
+public class DedupProperties {
+
+    /**
+     * When enabled, shortening a URL that already has a live mapping with a compatible expiration
+     * returns that mapping instead of creating a new one.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Expirations falling into the same bucket are compatible. A reused mapping may therefore
+     * expire up to one bucket earlier than requested.
+     */
+    private Duration expiryBucket = Duration.ofHours(1);
+
+    /**
+     * Existing mappings with less lifetime left than this are not reused; a new, non-deduplicated
+     * mapping is created instead.
+     */
+    private Duration minRemainingLifetime = Duration.ofHours(1);
+}
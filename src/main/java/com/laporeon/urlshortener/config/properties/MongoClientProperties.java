@@ -0,0 +1,54 @@
+package com.laporeon.urlshortener.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "app.mongo")
+public class MongoClientProperties {
+
+    private Pool pool = new Pool();
+
+    private SlowOperations slowOperations = new SlowOperations();
+
+    /**
+     * Connection pool of every server the client talks to. These take precedence over pool options in the
+     * connection string.
+     */
+    @Data
+    public static class Pool {
+
+        private int maxSize = 100;
+
+        private int minSize = 0;
+
+        /**
+         * How long an operation waits for a free connection before failing. Keep it short so a saturated
+         * pool sheds load instead of queueing request threads behind it.
+         */
+        private Duration maxWaitTime = Duration.ofSeconds(2);
+
+        /**
+         * Connections a pool may be establishing at the same time.
+         */
+        private int maxConnecting = 2;
+
+        /**
+         * Idle connections are closed after this long; zero keeps them open.
+         */
+        private Duration maxConnectionIdleTime = Duration.ZERO;
+    }
+
+    @Data
+    public static class SlowOperations {
+
+        /**
+         * Logs commands slower than the threshold with the shape of their filter, values left out.
+         */
+        private boolean enabled = true;
+
+        private Duration threshold = Duration.ofMillis(100);
+    }
+}
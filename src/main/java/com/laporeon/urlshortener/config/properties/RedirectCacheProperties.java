@@ -0,0 +1,35 @@
+package com.laporeon.urlshortener.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "app.redirect-cache")
+public class RedirectCacheProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * ENTRIES bounds the cache by number of mappings, WEIGHT bounds it by the
+     * approximate number of bytes held in original URLs.
+     */
+    private Policy policy = Policy.ENTRIES;
+
+    private long maximumSize = 10_000;
+
+    private long maximumWeight = 8 * 1024 * 1024;
+
+    private int initialCapacity = 1_024;
+
+    /**
+     * Upper bound for how long a mapping may stay cached, regardless of how far away its expiration is.
+     */
+    private Duration maxTimeToLive = Duration.ofHours(1);
+
+    public enum Policy {
+        ENTRIES,
+        WEIGHT
+    }
+}
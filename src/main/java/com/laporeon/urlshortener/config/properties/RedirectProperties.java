@@ -0,0 +1,37 @@
+package com.laporeon.urlshortener.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.http.HttpStatus;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "app.redirect")
+public class RedirectProperties {
+
+    /**
+     * Upper bound for the {@code Cache-Control: max-age} of a redirect, which is otherwise the remaining
+     * lifetime of its mapping. Clicks answered by a browser or CDN cache are not counted. Zero sends no
+     * caching headers.
+     */
+    private Duration maxAge = Duration.ofHours(1);
+
+    /**
+     * Same bound for mappings created with {@code permanent}.
+     */
+    private Duration permanentMaxAge = Duration.ofDays(30);
+
+    /**
+     * Status used for mappings created with {@code permanent}, either MOVED_PERMANENTLY (301) or
+     * PERMANENT_REDIRECT (308).
+     */
+    private HttpStatus permanentStatus = HttpStatus.MOVED_PERMANENTLY;
+
+    /**
+     * Answers {@code GET /{shortCode}} from a servlet filter ahead of Spring MVC, skipping handler mapping
+     * and argument resolution. Responses are the same; the {@code http.server.requests} metric reports
+     * these requests without a uri pattern.
+     */
+    private boolean fastPath = false;
+}
@@ -0,0 +1,29 @@
+package com.laporeon.urlshortener.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "app.replica")
+public class ReplicaProperties {
+
+    /**
+     * Keeps every live mapping in an off-heap table fed by a change stream, so redirects never query
+     * MongoDB while the stream is connected. Change streams need MongoDB to run as a replica set.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Number of mappings the table is sized for up front. It grows past this as needed.
+     */
+    private int expectedSize = 1_000_000;
+
+    /**
+     * Wait before reconnecting after the change stream failed. Redirects read from MongoDB meanwhile.
+     */
+    private Duration retryInterval = Duration.ofSeconds(5);
+
+    private Duration sweepInterval = Duration.ofMinutes(5);
+}
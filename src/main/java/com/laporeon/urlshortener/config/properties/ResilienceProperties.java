@@ -0,0 +1,76 @@
+package com.laporeon.urlshortener.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "app.resilience")
+public class ResilienceProperties {
+
+    /**
+     * Guards redirect lookups that reach the store with a timeout, a bulkhead and a circuit breaker, and
+     * answers from the last known good mappings while the store is unavailable.
+     */
+    private boolean enabled = true;
+
+    /**
+     * How long a redirect waits for the store before the lookup counts as failed. The query itself keeps
+     * running, and holding its bulkhead slot, until the driver returns.
+     */
+    private Duration timeout = Duration.ofMillis(500);
+
+    private Bulkhead bulkhead = new Bulkhead();
+
+    private CircuitBreaker circuitBreaker = new CircuitBreaker();
+
+    private LastKnownGood lastKnownGood = new LastKnownGood();
+
+    @Data
+    public static class Bulkhead {
+
+        /**
+         * Store lookups allowed in flight at once. Lookups beyond it are refused without waiting.
+         */
+        private int maxConcurrentCalls = 50;
+    }
+
+    @Data
+    public static class CircuitBreaker {
+
+        /**
+         * Percentage of failed or timed out lookups within the window that opens the breaker.
+         */
+        private int failureRateThreshold = 50;
+
+        /**
+         * Number of most recent lookups the failure rate is computed over.
+         */
+        private int slidingWindowSize = 50;
+
+        /**
+         * Lookups the window must hold before the failure rate is evaluated.
+         */
+        private int minimumCalls = 20;
+
+        /**
+         * How long the breaker stays open before letting trial lookups through.
+         */
+        private Duration openDuration = Duration.ofSeconds(10);
+
+        /**
+         * Trial lookups allowed while half open. All of them must succeed for the breaker to close.
+         */
+        private int halfOpenCalls = 5;
+    }
+
+    @Data
+    public static class LastKnownGood {
+
+        /**
+         * Recently resolved mappings kept to answer redirects while the store is unavailable.
+         */
+        private long maximumSize = 100_000;
+    }
+}
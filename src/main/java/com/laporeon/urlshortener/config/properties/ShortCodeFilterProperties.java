@@ -0,0 +1,30 @@
+package com.laporeon.urlshortener.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "app.short-code-filter")
+public class ShortCodeFilterProperties {
+
+    private boolean enabled = false;
+
+    private long expectedInsertions = 1_000_000;
+
+    private double falsePositiveRate = 0.01;
+
+    /**
+     * Codes created by other instances are picked up by the periodic sync, so until then this
+     * instance answers 404 for them. Keep the interval short when running more than one instance.
+     */
+    private Duration syncInterval = Duration.ofSeconds(5);
+
+    /**
+     * How far back each sync looks before the previous one, to absorb clock skew between instances.
+     */
+    private Duration syncOverlap = Duration.ofSeconds(30);
+
+    private Duration rebuildInterval = Duration.ofHours(1);
+}
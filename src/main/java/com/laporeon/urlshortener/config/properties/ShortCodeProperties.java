@@ -0,0 +1,39 @@
+package com.laporeon.urlshortener.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "app.short-code")
+public class ShortCodeProperties {
+
+    /**
+     * RANDOM draws codes from a SecureRandom, RANGE encodes ids leased in blocks from a Mongo counter.
+     */
+    private Generator generator = Generator.RANDOM;
+
+    /**
+     * How many codes are tried before giving up when inserts keep hitting the unique index.
+     */
+    private int maxAttempts = 5;
+
+    private Lease lease = new Lease();
+
+    public enum Generator {
+        RANDOM,
+        RANGE
+    }
+
+    @Data
+    public static class Lease {
+
+        private String counterName = "short_code";
+
+        private long blockSize = 1_000;
+
+        /**
+         * Key of the id scrambling permutation. It must be the same on every instance sharing a database.
+         */
+        private String scrambleKey = "url-shortener";
+    }
+}
@@ -0,0 +1,110 @@
+package com.laporeon.urlshortener.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "app.storage")
+public class StorageProperties {
+
+    /**
+     * MONGO stores urls in MongoDB, EMBEDDED in a local append-only segment log. The embedded engine
+     * supports neither the range short code generator nor the reactive runtime, which both need MongoDB.
+     */
+    private Engine engine = Engine.MONGO;
+
+    private Embedded embedded = new Embedded();
+
+    private GroupCommit groupCommit = new GroupCommit();
+
+    private SecondaryReads secondaryReads = new SecondaryReads();
+
+    public enum Engine {
+        MONGO,
+        EMBEDDED
+    }
+
+    @Data
+    public static class Embedded {
+
+        private String directory = "data";
+
+        /**
+         * Size every segment file is preallocated to. A single url record must fit in one segment.
+         */
+        private DataSize segmentSize = DataSize.ofMegabytes(64);
+
+        /**
+         * Sealed segments whose live records take less than this fraction of them are rewritten.
+         */
+        private double compactionThreshold = 0.5;
+
+        private Duration compactionInterval = Duration.ofMinutes(10);
+
+        /**
+         * How often dirty pages of the active segment are forced to disk. Writes that happened since the
+         * last force survive a process crash but may be lost if the machine itself goes down.
+         */
+        private Duration forceInterval = Duration.ofSeconds(1);
+    }
+
+    /**
+     * Coalesces concurrent single inserts into unordered bulk writes. Only used by the MONGO engine.
+     */
+    @Data
+    public static class GroupCommit {
+
+        private boolean enabled = false;
+
+        /**
+         * Inserts written by one bulk write at most.
+         */
+        private int maxBatchSize = 256;
+
+        /**
+         * How long the writer keeps gathering inserts after the first one of a batch arrives, which is
+         * also the most a single insert is delayed by.
+         */
+        private Duration maxDelay = Duration.ofMillis(2);
+
+        /**
+         * Inserts waiting for the writer at most; callers block once it is reached.
+         */
+        private int queueCapacity = 4096;
+
+        /**
+         * Longest an insert waits for a place in the queue and its acknowledgement together.
+         */
+        private Duration timeout = Duration.ofSeconds(5);
+    }
+
+    /**
+     * Sends redirect lookups to the nearest replica set member, primary or secondary. Only used by the
+     * MONGO engine.
+     */
+    @Data
+    public static class SecondaryReads {
+
+        private boolean enabled = false;
+
+        /**
+         * Secondaries lagging the primary by more than this are not read from. MongoDB requires at least 90 seconds.
+         */
+        private Duration maxStaleness = Duration.ofSeconds(90);
+
+        /**
+         * Retries a lookup that found nothing on a secondary against the primary, but only for codes that
+         * may have been created after the secondary last replicated: codes the short code filter knows, and
+         * codes this instance issued within {@code maxStaleness}. Any other miss is answered without a retry.
+         */
+        private boolean primaryFallback = true;
+
+        /**
+         * Codes issued by this instance that are remembered for the primary fallback at most.
+         */
+        private long recentCodesMaximumSize = 100_000;
+    }
+}
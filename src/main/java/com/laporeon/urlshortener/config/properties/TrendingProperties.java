@@ -0,0 +1,27 @@
+package com.laporeon.urlshortener.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "app.trending")
+public class TrendingProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * Most links reported per window.
+     */
+    private int size = 100;
+
+    /**
+     * Rows of each count-min sketch. More rows make overestimates from hash collisions less likely.
+     */
+    private int depth = 4;
+
+    /**
+     * Counters per sketch row, a power of two. More counters make each overestimate smaller. Memory is
+     * depth * width * 4 bytes per bucket, 36 buckets over all windows: 1.1MB with the defaults.
+     */
+    private int width = 2048;
+}
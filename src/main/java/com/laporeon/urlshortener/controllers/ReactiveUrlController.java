@@ -0,0 +1,68 @@
+package com.laporeon.urlshortener.controllers;
+
+import com.laporeon.urlshortener.dtos.request.UrlRequestDTO;
+import com.laporeon.urlshortener.dtos.response.ApiMetadataDTO;
+import com.laporeon.urlshortener.dtos.response.UrlResponseDTO;
+import com.laporeon.urlshortener.logging.AccessLog;
+import com.laporeon.urlshortener.services.ClickCountService;
+import com.laporeon.urlshortener.services.ReactiveUrlService;
+import com.laporeon.urlshortener.utils.RedirectPolicy;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * WebFlux counterpart of {@link UrlController}, active when the application runs with the reactive profile.
+ */
+@RestController
+@RequestMapping
+@RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveUrlController {
+
+    private final ReactiveUrlService urlService;
+    private final ClickCountService clickCountService;
+    private final AccessLog accessLog;
+    private final RedirectPolicy redirectPolicy;
+
+    @PostMapping("/shorten")
+    public Mono<ResponseEntity<UrlResponseDTO>> shortenUrl(@Valid @RequestBody UrlRequestDTO dto, ServerHttpRequest request) {
+        return urlService.shortenUrl(dto, request)
+                         .map(urlResponseDTO -> ResponseEntity.status(HttpStatus.CREATED).body(urlResponseDTO));
+    }
+
+    @GetMapping("/{shortCode:[A-Za-z0-9]{7}}")
+    public Mono<ResponseEntity<Void>> redirect(@PathVariable("shortCode") String shortCode) {
+        return urlService.findByShortCode(shortCode)
+                         .map(url -> {
+                             ResponseEntity<Void> response = redirectPolicy.redirect(url);
+                             clickCountService.record(shortCode);
+                             accessLog.redirect(shortCode, response.getStatusCode().value());
+
+                             return response;
+                         });
+    }
+
+    @GetMapping("/")
+    public Mono<ResponseEntity<ApiMetadataDTO>> getApiMetadata() {
+        ApiMetadataDTO response = new ApiMetadataDTO(
+                "URL Shortener API",
+                "1.0.0",
+                "operational",
+                Instant.now(),
+                Map.of("shorten", "POST /shorten",
+                       "redirect", "GET /{shortCode}",
+                       "trending", "GET /trending"),
+                "https://github.com/laporeon/url-shortener-api/blob/main/README.md");
+
+        return Mono.just(ResponseEntity.ok(response));
+    }
+}
@@ -0,0 +1,141 @@
+package com.laporeon.urlshortener.controllers;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.laporeon.urlshortener.entities.Url;
+import com.laporeon.urlshortener.exceptions.GlobalExceptionHandler;
+import com.laporeon.urlshortener.exceptions.ShortCodeNotFoundException;
+import com.laporeon.urlshortener.exceptions.StorageUnavailableException;
+import com.laporeon.urlshortener.logging.AccessLog;
+import com.laporeon.urlshortener.services.ClickCountService;
+import com.laporeon.urlshortener.services.UrlService;
+import com.laporeon.urlshortener.utils.RedirectPolicy;
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.URI;
+
+import static com.laporeon.urlshortener.utils.ShortCodeGenerator.SHORT_CODE_LENGTH;
+
+/**
+ * Answers {@code GET /{shortCode}} before the request reaches the {@code DispatcherServlet}. The path is
+ * matched by hand and the redirect is written straight to the response; everything else, including
+ * cross-origin requests that need CORS headers, continues down the chain to {@link UrlController}.
+ * Errors are rendered by {@link GlobalExceptionHandler} itself, so the bodies stay the same.
+ */
+@Component
+@RequiredArgsConstructor
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnProperty(prefix = "app.redirect", name = "fast-path", havingValue = "true")
+public class RedirectFastPathFilter implements Filter {
+
+    private final UrlService urlService;
+    private final ClickCountService clickCountService;
+    private final AccessLog accessLog;
+    private final RedirectPolicy redirectPolicy;
+    private final GlobalExceptionHandler exceptionHandler;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public void doFilter(ServletRequest servletRequest, ServletResponse servletResponse, FilterChain chain)
+            throws IOException, ServletException {
+
+        HttpServletRequest request = (HttpServletRequest) servletRequest;
+        HttpServletResponse response = (HttpServletResponse) servletResponse;
+        String shortCode = shortCodeOf(request);
+
+        if (shortCode == null) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        Url url;
+        String location;
+        try {
+            url = urlService.findByShortCode(shortCode);
+            location = location(url.getOriginalUrl());
+        } catch (ShortCodeNotFoundException ex) {
+            write(response, exceptionHandler.handleShortCodeNotFoundException(ex));
+            return;
+        } catch (StorageUnavailableException ex) {
+            write(response, exceptionHandler.handleStorageUnavailableException(ex));
+            return;
+        } catch (RuntimeException ex) {
+            write(response, exceptionHandler.handleException(ex, request));
+            return;
+        }
+
+        int status = redirectPolicy.status(url).value();
+        String cacheControl = redirectPolicy.cacheControl(url);
+
+        clickCountService.record(shortCode);
+        accessLog.redirect(shortCode, status);
+
+        response.setStatus(status);
+        response.setHeader(HttpHeaders.LOCATION, location);
+        if (cacheControl != null) {
+            response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl);
+        }
+    }
+
+    /**
+     * @return the short code if this is a same-origin {@code GET} of exactly one 7-character alphanumeric
+     * path segment, otherwise null
+     */
+    private static String shortCodeOf(HttpServletRequest request) {
+        if (!"GET".equals(request.getMethod()) || request.getHeader(HttpHeaders.ORIGIN) != null) {
+            return null;
+        }
+
+        String uri = request.getRequestURI();
+        int start = request.getContextPath().length() + 1;
+
+        if (uri.length() != start + SHORT_CODE_LENGTH || uri.charAt(start - 1) != '/') {
+            return null;
+        }
+
+        for (int index = start; index < uri.length(); index++) {
+            char c = uri.charAt(index);
+            if (!(c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z' || c >= '0' && c <= '9')) {
+                return null;
+            }
+        }
+
+        return uri.substring(start);
+    }
+
+    /**
+     * Printable ASCII urls are sent as they are; anything else goes through {@link URI} like the MVC path.
+     */
+    private static String location(String originalUrl) {
+        for (int index = 0; index < originalUrl.length(); index++) {
+            char c = originalUrl.charAt(index);
+            if (c <= ' ' || c >= 0x7F) {
+                return URI.create(originalUrl).toASCIIString();
+            }
+        }
+        return originalUrl;
+    }
+
+    private void write(HttpServletResponse response, ResponseEntity<?> entity) throws IOException {
+        response.setStatus(entity.getStatusCode().value());
+        entity.getHeaders().forEach((name, values) -> values.forEach(value -> response.addHeader(name, value)));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), entity.getBody());
+    }
+}
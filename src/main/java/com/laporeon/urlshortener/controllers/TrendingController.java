@@ -0,0 +1,68 @@
+package com.laporeon.urlshortener.controllers;
+
+import com.laporeon.urlshortener.dtos.response.TrendingLinksResponseDTO;
+import com.laporeon.urlshortener.dtos.response.ValidationErrorResponseDTO;
+import com.laporeon.urlshortener.trending.TrendingLinks;
+import com.laporeon.urlshortener.trending.TrendingWindow;
+import com.laporeon.urlshortener.utils.SwaggerExamples;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Pattern;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Instant;
+
+@Tag(name = "Trending")
+@RestController
+@RequiredArgsConstructor
+public class TrendingController {
+
+    private static final int MAX_LIMIT = 100;
+
+    private final TrendingLinks trendingLinks;
+
+    @Operation(
+            summary = "List trending links",
+            description = "Returns the short codes clicked the most over the last minute, 15 minutes or hour on this instance, " +
+                    "with estimated click counts. Estimates can be slightly too high but never too low.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Trending links, most clicked first",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = TrendingLinksResponseDTO.class),
+                                    examples = @ExampleObject(value = SwaggerExamples.TRENDING_LINKS_RESPONSE))),
+                    @ApiResponse(responseCode = "400", description = "Request validation failed",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = ValidationErrorResponseDTO.class)))
+            }
+    )
+    @GetMapping("/trending")
+    public ResponseEntity<TrendingLinksResponseDTO> getTrendingLinks(
+            @Parameter(description = "Window to rank clicks over: 1m, 15m or 1h")
+            @RequestParam(defaultValue = "1m")
+            @Pattern(regexp = "1m|15m|1h", message = "Window must be one of 1m, 15m or 1h.")
+            String window,
+            @Parameter(description = "Most links to return")
+            @RequestParam(defaultValue = "10")
+            @Min(value = 1, message = "Limit must be between 1 and " + MAX_LIMIT + ".")
+            @Max(value = MAX_LIMIT, message = "Limit must be between 1 and " + MAX_LIMIT + ".")
+            int limit) {
+
+        return ResponseEntity.ok(new TrendingLinksResponseDTO(
+                window,
+                Instant.now(),
+                trendingLinks.top(TrendingWindow.fromLabel(window), limit)));
+    }
+}
@@ -5,10 +5,14 @@ import com.laporeon.urlshortener.dtos.response.ApiMetadataDTO;
 import com.laporeon.urlshortener.dtos.response.ErrorResponseDTO;
 import com.laporeon.urlshortener.dtos.response.UrlResponseDTO;
 import com.laporeon.urlshortener.dtos.response.ValidationErrorResponseDTO;
+import com.laporeon.urlshortener.logging.AccessLog;
+import com.laporeon.urlshortener.services.ClickCountService;
 import com.laporeon.urlshortener.services.UrlService;
+import com.laporeon.urlshortener.utils.RedirectPolicy;
 import com.laporeon.urlshortener.utils.SwaggerExamples;
 import io.swagger.v3.oas.annotations.Hidden;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.ExampleObject;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -16,24 +20,30 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Size;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.net.URI;
 import java.time.Instant;
+import java.util.List;
 import java.util.Map;
 
 @Tag(name = "URL")
-@Slf4j
 @RestController
 @RequestMapping
 @RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class UrlController {
 
+    private static final int MAX_BATCH_SIZE = 1000;
+
     private final UrlService urlService;
+    private final ClickCountService clickCountService;
+    private final AccessLog accessLog;
+    private final RedirectPolicy redirectPolicy;
 
     @Operation(
             summary = "Shorten a URL",
@@ -71,6 +81,46 @@ public class UrlController {
         return ResponseEntity.status(HttpStatus.CREATED).body(urlResponseDTO);
     }
 
+    @Operation(
+            summary = "Shorten a batch of URLs",
+            description = "Receives an array of long URLs with optional expiration dates. " +
+                    "Returns one shortened URL per item, in request order.",
+            requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    description = "Request payload",
+                    required = true,
+                    content = @Content(
+                            mediaType = "application/json",
+                            array = @ArraySchema(schema = @Schema(implementation = UrlRequestDTO.class)),
+                            examples = @ExampleObject(value = SwaggerExamples.CREATE_SHORT_URL_BATCH_REQUEST)
+                    )
+            ),
+            responses = {
+                    @ApiResponse(responseCode = "201", description = "Successfully Shorten URLs",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    array = @ArraySchema(schema = @Schema(implementation = UrlResponseDTO.class)),
+                                    examples = @ExampleObject(value = SwaggerExamples.SHORTEN_URL_BATCH_SUCCESS_RESPONSE))),
+                    @ApiResponse(responseCode = "400", description = "Request validation failed",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = ValidationErrorResponseDTO.class),
+                                    examples = @ExampleObject(value = SwaggerExamples.BATCH_VALIDATION_ERROR_RESPONSE))),
+                    @ApiResponse(responseCode = "500", description = "Internal Server Error",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = ErrorResponseDTO.class),
+                                    examples = @ExampleObject(value = SwaggerExamples.INTERNAL_ERROR_RESPONSE)))
+            }
+    )
+    @PostMapping("/shorten/batch")
+    public ResponseEntity<List<UrlResponseDTO>> shortenUrls(
+            @RequestBody @Size(min = 1, max = MAX_BATCH_SIZE, message = "Batch must contain between 1 and " + MAX_BATCH_SIZE + " URLs.")
+            List<@Valid UrlRequestDTO> urls,
+            HttpServletRequest request) {
+        List<UrlResponseDTO> urlResponseDTOs = urlService.shortenUrls(urls, request);
+        return ResponseEntity.status(HttpStatus.CREATED).body(urlResponseDTOs);
+    }
+
     @Operation(
             summary = "Redirect to original URL.",
             description = "Receives a short code and redirects to the original URL if found and not expired.\n\n" +
@@ -78,6 +128,7 @@ public class UrlController {
                     "Please test directly in your browser or using your preferred REST Client.",
             responses = {
                     @ApiResponse(responseCode = "302", description = "Short code found"),
+                    @ApiResponse(responseCode = "301", description = "Short code found, created as permanent"),
                     @ApiResponse(responseCode = "404", description = "Resource not found",
                             content = @Content(
                                     mediaType = "application/json",
@@ -92,12 +143,11 @@ public class UrlController {
     )
     @GetMapping("/{shortCode:[A-Za-z0-9]{7}}")
     public ResponseEntity<Void> redirect(@PathVariable("shortCode") String shortCode) {
-        String originalUrl = urlService.findByShortCode(shortCode).getOriginalUrl();
-
-        log.info("Redirecting | shortCode={} | target={}", shortCode, originalUrl);
-
-        return ResponseEntity.status(HttpStatus.FOUND).location(URI.create(originalUrl)).build();
+        ResponseEntity<Void> response = redirectPolicy.redirect(urlService.findByShortCode(shortCode));
+        clickCountService.record(shortCode);
+        accessLog.redirect(shortCode, response.getStatusCode().value());
 
+        return response;
     }
 
     /**
@@ -113,7 +163,9 @@ public class UrlController {
                 "operational",
                 Instant.now(),
                 Map.of("shorten", "POST /shorten",
-                       "redirect", "GET /{shortCode}"),
+                       "shortenBatch", "POST /shorten/batch",
+                       "redirect", "GET /{shortCode}",
+                       "trending", "GET /trending"),
                 "https://github.com/laporeon/url-shortener-api/blob/main/README.md");
 
          return ResponseEntity.ok(response);
@@ -1,21 +1,26 @@
 package com.laporeon.urlshortener.dtos.request;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.laporeon.urlshortener.validation.ValidUrl;
+import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.Future;
 import jakarta.validation.constraints.NotBlank;
-import jakarta.validation.constraints.Pattern;
 
 import java.time.LocalDate;
 
 public record UrlRequestDTO(
-        @Pattern(
-                regexp = "https?://([\\w-]+\\.)+[\\w-]+(:\\d+)?(/\\S*)?",
-                message = "Invalid URL format. Please provide a valid URL (e.g., https://example.com)."
-        )
+        @ValidUrl
+        @Schema(format = "uri", description = "Absolute http or https URL to shorten.")
         @NotBlank(message = "URL is required.")
         String originalUrl,
         @JsonFormat(pattern = "yyyy-MM-dd")
         @Future(message = "Expiration date must be a future date (format: yyyy-MM-dd).")
-        LocalDate expirationDate
+        LocalDate expirationDate,
+        @Schema(description = "Redirect with the configured permanent status (301 or 308) instead of 302.")
+        Boolean permanent
 ) {
+
+    public UrlRequestDTO(String originalUrl, LocalDate expirationDate) {
+        this(originalUrl, expirationDate, null);
+    }
 }
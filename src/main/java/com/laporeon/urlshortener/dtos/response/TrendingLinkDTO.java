@@ -0,0 +1,6 @@
+package com.laporeon.urlshortener.dtos.response;
+
+public record TrendingLinkDTO(
+        String shortCode,
+        long estimatedClicks) {
+}
@@ -0,0 +1,10 @@
+package com.laporeon.urlshortener.dtos.response;
+
+import java.time.Instant;
+import java.util.List;
+
+public record TrendingLinksResponseDTO(
+        String window,
+        Instant timestamp,
+        List<TrendingLinkDTO> links) {
+}
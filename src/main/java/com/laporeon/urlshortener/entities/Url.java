@@ -23,6 +23,7 @@ public class Url {
     private String id;
 
     @Field(name = "short_code")
+    @Indexed(name = "short_code", unique = true)
     private String shortCode;
 
     @Field(name = "original_url")
@@ -32,6 +33,23 @@ public class Url {
     @Indexed(name = "ttl", expireAfter = "0")
     private Instant expiresAt;
 
+    /**
+     * Fingerprint of the normalized original URL plus its expiry bucket, set only on mappings
+     * created in dedup mode so that at most one of them exists per URL and bucket.
+     */
+    @Field(name = "dedup_key")
+    @Indexed(name = "dedup_key", unique = true, sparse = true)
+    private String dedupKey;
+
+    /**
+     * Redirects for permanent mappings use the configured permanent status instead of 302 Found.
+     */
+    @Field(name = "permanent")
+    private Boolean permanent;
+
+    @Field(name = "click_count")
+    private Long clickCount;
+
     @CreatedDate
     @Field(name = "created_at")
     private Instant createdAt;
@@ -2,22 +2,35 @@ package com.laporeon.urlshortener.exceptions;
 
 import com.laporeon.urlshortener.dtos.response.ErrorResponseDTO;
 import com.laporeon.urlshortener.dtos.response.ValidationErrorResponseDTO;
+import com.laporeon.urlshortener.metrics.UrlMetrics;
 import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.method.ParameterErrors;
+import org.springframework.validation.method.ParameterValidationResult;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.HandlerMethodValidationException;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
 @Slf4j
 @RestControllerAdvice
+@RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class GlobalExceptionHandler {
 
+    private final UrlMetrics urlMetrics;
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ValidationErrorResponseDTO> handleValidationException(
             MethodArgumentNotValidException ex, HttpServletRequest request) {
@@ -27,6 +40,8 @@ public class GlobalExceptionHandler {
                  request.getRequestURI(),
                  ex.getBindingResult().getErrorCount());
 
+        urlMetrics.recordValidationError();
+
         List<Map<String, String>> errors = ex.getBindingResult()
                                              .getFieldErrors()
                                              .stream()
@@ -46,6 +61,70 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
     }
 
+    @ExceptionHandler(HandlerMethodValidationException.class)
+    public ResponseEntity<ValidationErrorResponseDTO> handleMethodValidationException(
+            HandlerMethodValidationException ex, HttpServletRequest request) {
+
+        log.warn("Validation failed | method={} | path={} | errors={}",
+                 request.getMethod(),
+                 request.getRequestURI(),
+                 ex.getAllErrors().size());
+
+        urlMetrics.recordValidationError();
+
+        List<Map<String, String>> errors = new ArrayList<>();
+
+        for (ParameterValidationResult result : ex.getParameterValidationResults()) {
+            String parameter = result.getContainerIndex() != null
+                    ? "[" + result.getContainerIndex() + "]"
+                    : result.getMethodParameter().getParameterName();
+
+            if (result instanceof ParameterErrors parameterErrors) {
+                parameterErrors.getFieldErrors()
+                               .forEach(err -> errors.add(Map.of(
+                                       "field", parameter + "." + err.getField(),
+                                       "message", err.getDefaultMessage())));
+            } else {
+                result.getResolvableErrors()
+                      .forEach(err -> errors.add(Map.of(
+                              "field", parameter,
+                              "message", err.getDefaultMessage())));
+            }
+        }
+
+        ValidationErrorResponseDTO error = new ValidationErrorResponseDTO(
+                HttpStatus.BAD_REQUEST.value(),
+                "VALIDATION_ERROR",
+                "Request validation failed for one or more fields",
+                errors,
+                Instant.now());
+
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+    }
+
+    @ExceptionHandler(MethodArgumentTypeMismatchException.class)
+    public ResponseEntity<ValidationErrorResponseDTO> handleTypeMismatchException(
+            MethodArgumentTypeMismatchException ex, HttpServletRequest request) {
+
+        log.warn("Validation failed | method={} | path={} | errors={}",
+                 request.getMethod(),
+                 request.getRequestURI(),
+                 1);
+
+        urlMetrics.recordValidationError();
+
+        ValidationErrorResponseDTO error = new ValidationErrorResponseDTO(
+                HttpStatus.BAD_REQUEST.value(),
+                "VALIDATION_ERROR",
+                "Request validation failed for one or more fields",
+                List.of(Map.of(
+                        "field", ex.getName(),
+                        "message", "Invalid value '" + ex.getValue() + "'.")),
+                Instant.now());
+
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+    }
+
     @ExceptionHandler(ShortCodeNotFoundException.class)
     public ResponseEntity<ErrorResponseDTO> handleShortCodeNotFoundException(ShortCodeNotFoundException ex) {
 
@@ -58,6 +137,54 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
     }
 
+    @ExceptionHandler(RateLimitExceededException.class)
+    public ResponseEntity<ErrorResponseDTO> handleRateLimitExceededException(
+            RateLimitExceededException ex, HttpServletRequest request) {
+
+        log.warn("Rate limit exceeded | method={} | path={} | client={}",
+                 request.getMethod(),
+                 request.getRequestURI(),
+                 request.getRemoteAddr());
+
+        ErrorResponseDTO error = new ErrorResponseDTO(
+                HttpStatus.TOO_MANY_REQUESTS.value(),
+                "RATE_LIMIT_ERROR",
+                ex.getMessage(),
+                Instant.now());
+
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                             .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                             .body(error);
+    }
+
+    @ExceptionHandler(ServiceOverloadedException.class)
+    public ResponseEntity<ErrorResponseDTO> handleServiceOverloadedException(ServiceOverloadedException ex) {
+
+        ErrorResponseDTO error = new ErrorResponseDTO(
+                HttpStatus.SERVICE_UNAVAILABLE.value(),
+                "SERVICE_OVERLOADED_ERROR",
+                ex.getMessage(),
+                Instant.now());
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                             .header(HttpHeaders.RETRY_AFTER, "1")
+                             .body(error);
+    }
+
+    @ExceptionHandler(StorageUnavailableException.class)
+    public ResponseEntity<ErrorResponseDTO> handleStorageUnavailableException(StorageUnavailableException ex) {
+
+        ErrorResponseDTO error = new ErrorResponseDTO(
+                HttpStatus.SERVICE_UNAVAILABLE.value(),
+                "STORAGE_UNAVAILABLE_ERROR",
+                ex.getMessage(),
+                Instant.now());
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                             .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                             .body(error);
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ErrorResponseDTO> handleException(Exception ex, HttpServletRequest request) {
         log.error("An unexpected error occurred | method={} | path={} | exception={} | message={}",
@@ -0,0 +1,16 @@
+package com.laporeon.urlshortener.exceptions;
+
+import lombok.Getter;
+
+@Getter
+public class RateLimitExceededException extends RuntimeException {
+
+    private static final String DEFAULT_MESSAGE = "Too many requests. Retry after %d seconds.";
+
+    private final long retryAfterSeconds;
+
+    public RateLimitExceededException(long retryAfterSeconds) {
+        super(DEFAULT_MESSAGE.formatted(retryAfterSeconds));
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
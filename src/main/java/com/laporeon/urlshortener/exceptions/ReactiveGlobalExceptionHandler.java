@@ -0,0 +1,160 @@
+package com.laporeon.urlshortener.exceptions;
+
+import com.laporeon.urlshortener.dtos.response.ErrorResponseDTO;
+import com.laporeon.urlshortener.dtos.response.ValidationErrorResponseDTO;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.beans.TypeMismatchException;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.validation.method.ParameterErrors;
+import org.springframework.validation.method.ParameterValidationResult;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.bind.support.WebExchangeBindException;
+import org.springframework.web.method.annotation.HandlerMethodValidationException;
+import org.springframework.web.server.ServerWebInputException;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * WebFlux counterpart of {@link GlobalExceptionHandler}, producing the same error bodies.
+ */
+@Slf4j
+@RestControllerAdvice
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveGlobalExceptionHandler {
+
+    @ExceptionHandler(WebExchangeBindException.class)
+    public ResponseEntity<ValidationErrorResponseDTO> handleValidationException(
+            WebExchangeBindException ex, ServerHttpRequest request) {
+
+        log.warn("Validation failed | method={} | path={} | errors={}",
+                 request.getMethod(),
+                 request.getPath(),
+                 ex.getBindingResult().getErrorCount());
+
+        List<Map<String, String>> errors = ex.getBindingResult()
+                                             .getFieldErrors()
+                                             .stream()
+                                             .map(err -> Map.of(
+                                                     "field", err.getField(),
+                                                     "message", err.getDefaultMessage()))
+                                             .toList();
+
+        ValidationErrorResponseDTO error = new ValidationErrorResponseDTO(
+                HttpStatus.BAD_REQUEST.value(),
+                "VALIDATION_ERROR",
+                "Request validation failed for one or more fields",
+                errors,
+                Instant.now());
+
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+    }
+
+    @ExceptionHandler(HandlerMethodValidationException.class)
+    public ResponseEntity<ValidationErrorResponseDTO> handleMethodValidationException(
+            HandlerMethodValidationException ex, ServerHttpRequest request) {
+
+        log.warn("Validation failed | method={} | path={} | errors={}",
+                 request.getMethod(),
+                 request.getPath(),
+                 ex.getAllErrors().size());
+
+        List<Map<String, String>> errors = new ArrayList<>();
+
+        for (ParameterValidationResult result : ex.getParameterValidationResults()) {
+            String parameter = result.getContainerIndex() != null
+                    ? "[" + result.getContainerIndex() + "]"
+                    : result.getMethodParameter().getParameterName();
+
+            if (result instanceof ParameterErrors parameterErrors) {
+                parameterErrors.getFieldErrors()
+                               .forEach(err -> errors.add(Map.of(
+                                       "field", parameter + "." + err.getField(),
+                                       "message", err.getDefaultMessage())));
+            } else {
+                result.getResolvableErrors()
+                      .forEach(err -> errors.add(Map.of(
+                              "field", parameter,
+                              "message", err.getDefaultMessage())));
+            }
+        }
+
+        ValidationErrorResponseDTO error = new ValidationErrorResponseDTO(
+                HttpStatus.BAD_REQUEST.value(),
+                "VALIDATION_ERROR",
+                "Request validation failed for one or more fields",
+                errors,
+                Instant.now());
+
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+    }
+
+    /**
+     * Request parameters that could not be converted to the handler's argument type, such as
+     * {@code ?limit=abc}. Bean validation failures are the more specific {@link WebExchangeBindException}.
+     */
+    @ExceptionHandler(ServerWebInputException.class)
+    public ResponseEntity<ValidationErrorResponseDTO> handleInputException(
+            ServerWebInputException ex, ServerHttpRequest request) {
+
+        log.warn("Validation failed | method={} | path={} | errors={}",
+                 request.getMethod(),
+                 request.getPath(),
+                 1);
+
+        MethodParameter parameter = ex.getMethodParameter();
+        String field = parameter != null && parameter.getParameterName() != null
+                ? parameter.getParameterName()
+                : "request";
+        String message = ex.getCause() instanceof TypeMismatchException mismatch
+                ? "Invalid value '" + mismatch.getValue() + "'."
+                : ex.getReason();
+
+        ValidationErrorResponseDTO error = new ValidationErrorResponseDTO(
+                HttpStatus.BAD_REQUEST.value(),
+                "VALIDATION_ERROR",
+                "Request validation failed for one or more fields",
+                List.of(Map.of("field", field, "message", String.valueOf(message))),
+                Instant.now());
+
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+    }
+
+    @ExceptionHandler(ShortCodeNotFoundException.class)
+    public ResponseEntity<ErrorResponseDTO> handleShortCodeNotFoundException(ShortCodeNotFoundException ex) {
+
+        ErrorResponseDTO error = new ErrorResponseDTO(
+                HttpStatus.NOT_FOUND.value(),
+                "NOT_FOUND_ERROR",
+                ex.getMessage(),
+                Instant.now());
+
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
+    }
+
+    @ExceptionHandler(Exception.class)
+    public ResponseEntity<ErrorResponseDTO> handleException(Exception ex, ServerHttpRequest request) {
+        log.error("An unexpected error occurred | method={} | path={} | exception={} | message={}",
+                  request.getMethod(),
+                  request.getPath(),
+                  ex.getClass().getSimpleName(),
+                  ex.getMessage(),
+                  ex);
+
+        ErrorResponseDTO error = new ErrorResponseDTO(
+                HttpStatus.INTERNAL_SERVER_ERROR.value(),
+                "INTERNAL_SERVER_ERROR",
+                "An unexpected error occurred",
+                Instant.now());
+
+        return ResponseEntity.internalServerError().body(error);
+    }
+
+}
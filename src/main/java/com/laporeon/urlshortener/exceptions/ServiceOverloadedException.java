@@ -0,0 +1,10 @@
+package com.laporeon.urlshortener.exceptions;
+
+public class ServiceOverloadedException extends RuntimeException {
+
+    private static final String DEFAULT_MESSAGE = "The service is handling too many requests. Please retry shortly.";
+
+    public ServiceOverloadedException() {
+        super(DEFAULT_MESSAGE);
+    }
+}
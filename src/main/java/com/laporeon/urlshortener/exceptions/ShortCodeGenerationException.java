@@ -0,0 +1,10 @@
+package com.laporeon.urlshortener.exceptions;
+
+public class ShortCodeGenerationException extends RuntimeException {
+
+    private static final String DEFAULT_MESSAGE = "Could not generate a unique short code after %d attempts.";
+
+    public ShortCodeGenerationException(int attempts) {
+        super(DEFAULT_MESSAGE.formatted(attempts));
+    }
+}
@@ -0,0 +1,16 @@
+package com.laporeon.urlshortener.exceptions;
+
+import lombok.Getter;
+
+@Getter
+public class StorageUnavailableException extends RuntimeException {
+
+    private static final String DEFAULT_MESSAGE = "The link could not be looked up right now. Please retry shortly.";
+
+    private final long retryAfterSeconds;
+
+    public StorageUnavailableException(long retryAfterSeconds, Throwable cause) {
+        super(DEFAULT_MESSAGE, cause);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
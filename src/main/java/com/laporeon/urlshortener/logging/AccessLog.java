@@ -0,0 +1,39 @@
+package com.laporeon.urlshortener.logging;
+
+import com.laporeon.urlshortener.config.properties.AccessLogProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Sampled access log of served redirects. Lines go to the {@value #LOGGER_NAME} logger, which
+ * logback-spring.xml routes through a non-blocking async appender to its own rolling file, so
+ * request threads never wait on I/O and events are dropped rather than queued when the writer lags.
+ */
+@Component
+@EnableConfigurationProperties(AccessLogProperties.class)
+public class AccessLog {
+
+    static final String LOGGER_NAME = "access";
+
+    private static final Logger ACCESS_LOGGER = LoggerFactory.getLogger(LOGGER_NAME);
+
+    private final double sampleRate;
+
+    public AccessLog(AccessLogProperties properties) {
+        this.sampleRate = properties.isEnabled() ? properties.getSampleRate() : 0;
+    }
+
+    public void redirect(String shortCode, int status) {
+        if (sampled() && ACCESS_LOGGER.isInfoEnabled()) {
+            ACCESS_LOGGER.info("code={} status={}", shortCode, status);
+        }
+    }
+
+    private boolean sampled() {
+        return sampleRate >= 1 || (sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate);
+    }
+}
@@ -0,0 +1,166 @@
+package com.laporeon.urlshortener.logging;
+
+import com.mongodb.event.CommandFailedEvent;
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+import com.mongodb.event.CommandSucceededEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Logs MongoDB commands that took longer than a threshold, with the shape of the command: field names and
+ * operators are kept and every value is replaced by {@code ?}, so a slow query can be matched to an index
+ * without short codes or urls ending up in the log.
+ * <p>
+ * Command documents are only valid while the started event is being handled, so the shape is taken then
+ * and held until the command completes.
+ */
+@Slf4j
+public class SlowOperationLog implements CommandListener {
+
+    private static final int MAX_ARRAY_ELEMENTS = 8;
+    // Session and routing fields the driver adds to every command; they say nothing about the query.
+    private static final Set<String> IGNORED_FIELDS = Set.of("lsid", "txnNumber", "$db", "$clusterTime",
+                                                             "$readPreference", "readConcern", "writeConcern");
+    // Cursor continuations: change stream getMores wait for new events on purpose and would always be slow.
+    private static final Set<String> IGNORED_COMMANDS = Set.of("getMore", "killCursors");
+
+    private final long thresholdNanos;
+    private final Map<Integer, String> shapes = new ConcurrentHashMap<>();
+
+    public SlowOperationLog(Duration threshold) {
+        this.thresholdNanos = threshold.toNanos();
+    }
+
+    @Override
+    public void commandStarted(CommandStartedEvent event) {
+        if (!IGNORED_COMMANDS.contains(event.getCommandName())) {
+            shapes.put(event.getRequestId(), shapeOf(event.getCommand()));
+        }
+    }
+
+    @Override
+    public void commandSucceeded(CommandSucceededEvent event) {
+        complete(event.getRequestId(), event.getCommandName(), event.getElapsedTime(TimeUnit.NANOSECONDS), "success");
+    }
+
+    @Override
+    public void commandFailed(CommandFailedEvent event) {
+        complete(event.getRequestId(), event.getCommandName(), event.getElapsedTime(TimeUnit.NANOSECONDS),
+                 event.getThrowable().getClass().getSimpleName());
+    }
+
+    private void complete(int requestId, String commandName, long elapsedNanos, String outcome) {
+        String shape = shapes.remove(requestId);
+
+        if (shape != null && elapsedNanos >= thresholdNanos) {
+            log.warn("Slow MongoDB command | command={} | elapsedMs={} | outcome={} | shape={}",
+                     commandName, TimeUnit.NANOSECONDS.toMillis(elapsedNanos), outcome, shape);
+        }
+    }
+
+    /**
+     * Renders a command with its values masked. The first field, holding the command name and collection,
+     * is kept as it is.
+     */
+    static String shapeOf(BsonDocument command) {
+        StringBuilder shape = new StringBuilder("{");
+        boolean first = true;
+
+        for (Map.Entry<String, BsonValue> field : command.entrySet()) {
+            if (IGNORED_FIELDS.contains(field.getKey())) {
+                continue;
+            }
+            if (!first) {
+                shape.append(", ");
+            }
+
+            shape.append(field.getKey()).append(": ");
+            if (first && field.getValue().isString()) {
+                shape.append('"').append(field.getValue().asString().getValue()).append('"');
+            } else {
+                appendShape(field.getValue(), shape);
+            }
+            first = false;
+        }
+
+        return shape.append('}').toString();
+    }
+
+    private static void appendShape(BsonValue value, StringBuilder shape) {
+        if (value.isDocument()) {
+            appendDocument(value.asDocument(), shape);
+        } else if (value.isArray()) {
+            appendArray(value.asArray(), shape);
+        } else {
+            shape.append('?');
+        }
+    }
+
+    private static void appendDocument(BsonDocument document, StringBuilder shape) {
+        shape.append('{');
+        boolean first = true;
+
+        for (Map.Entry<String, BsonValue> field : document.entrySet()) {
+            if (!first) {
+                shape.append(", ");
+            }
+            shape.append(field.getKey()).append(": ");
+            appendShape(field.getValue(), shape);
+            first = false;
+        }
+
+        shape.append('}');
+    }
+
+    /**
+     * Scalar arrays such as {@code $in} lists become {@code [?]}. Arrays of documents, like pipelines and
+     * batched writes, list the shape of their first elements and fold runs of identical shapes together.
+     */
+    private static void appendArray(BsonArray array, StringBuilder shape) {
+        if (array.isEmpty() || !array.get(0).isDocument() && !array.get(0).isArray()) {
+            shape.append(array.isEmpty() ? "[]" : "[?]");
+            return;
+        }
+
+        shape.append('[');
+        String previous = null;
+        int repeats = 0;
+        int shown = Math.min(array.size(), MAX_ARRAY_ELEMENTS);
+
+        for (int index = 0; index <= shown; index++) {
+            String element = null;
+            if (index < shown) {
+                StringBuilder elementShape = new StringBuilder();
+                appendShape(array.get(index), elementShape);
+                element = elementShape.toString();
+            }
+
+            if (element != null && element.equals(previous)) {
+                repeats++;
+                continue;
+            }
+            if (previous != null) {
+                shape.append(shape.charAt(shape.length() - 1) == '[' ? "" : ", ").append(previous);
+                if (repeats > 1) {
+                    shape.append(" x").append(repeats);
+                }
+            }
+            previous = element;
+            repeats = 1;
+        }
+
+        if (array.size() > shown) {
+            shape.append(", ... ").append(array.size()).append(" total");
+        }
+        shape.append(']');
+    }
+}
@@ -0,0 +1,126 @@
+package com.laporeon.urlshortener.metrics;
+
+import com.mongodb.connection.ServerId;
+import com.mongodb.event.ConnectionCheckOutFailedEvent;
+import com.mongodb.event.ConnectionCheckedInEvent;
+import com.mongodb.event.ConnectionCheckedOutEvent;
+import com.mongodb.event.ConnectionPoolClosedEvent;
+import com.mongodb.event.ConnectionPoolCreatedEvent;
+import com.mongodb.event.ConnectionPoolListener;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * How long operations wait for a pooled MongoDB connection and how full each pool is. Spring Boot's own
+ * pool listener already publishes the pool size and checked out count; this adds the checkout wait as a
+ * histogram, tagged with the outcome so timeouts stand out, and the fraction of the pool in use.
+ */
+public class MongoPoolMetrics implements ConnectionPoolListener {
+
+    private static final Duration MINIMUM_EXPECTED_WAIT = Duration.ofNanos(10_000);
+    private static final Duration MAXIMUM_EXPECTED_WAIT = Duration.ofSeconds(5);
+
+    private final MeterRegistry meterRegistry;
+    private final Map<ServerId, Pool> pools = new ConcurrentHashMap<>();
+
+    public MongoPoolMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void connectionPoolCreated(ConnectionPoolCreatedEvent event) {
+        pools.put(event.getServerId(), new Pool(event.getServerId(), event.getSettings().getMaxSize()));
+    }
+
+    @Override
+    public void connectionPoolClosed(ConnectionPoolClosedEvent event) {
+        Pool pool = pools.remove(event.getServerId());
+
+        if (pool != null) {
+            synchronized (pool.meters) {
+                pool.meters.forEach(meterRegistry::remove);
+            }
+        }
+    }
+
+    @Override
+    public void connectionCheckedOut(ConnectionCheckedOutEvent event) {
+        Pool pool = pools.get(event.getConnectionId().getServerId());
+
+        if (pool != null) {
+            pool.checkedOut.incrementAndGet();
+            pool.checkout("success").record(event.getElapsedTime(TimeUnit.NANOSECONDS), TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Override
+    public void connectionCheckOutFailed(ConnectionCheckOutFailedEvent event) {
+        Pool pool = pools.get(event.getServerId());
+
+        if (pool != null) {
+            pool.checkout(event.getReason().name().toLowerCase(Locale.ROOT))
+                .record(event.getElapsedTime(TimeUnit.NANOSECONDS), TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Override
+    public void connectionCheckedIn(ConnectionCheckedInEvent event) {
+        Pool pool = pools.get(event.getConnectionId().getServerId());
+
+        if (pool != null) {
+            pool.checkedOut.decrementAndGet();
+        }
+    }
+
+    private final class Pool {
+
+        private final Tags tags;
+        private final int maxSize;
+        private final AtomicInteger checkedOut = new AtomicInteger();
+        private final Map<String, Timer> checkouts = new ConcurrentHashMap<>();
+        private final List<Meter> meters = new ArrayList<>();
+
+        private Pool(ServerId serverId, int maxSize) {
+            this.tags = Tags.of("server.address", serverId.getAddress().toString());
+            this.maxSize = maxSize;
+
+            meters.add(Gauge.builder("mongodb.driver.pool.saturation", this, Pool::saturation)
+                            .description("Fraction of the pool's connections checked out")
+                            .tags(tags)
+                            .register(meterRegistry));
+        }
+
+        private double saturation() {
+            return maxSize == 0 ? 0 : (double) checkedOut.get() / maxSize;
+        }
+
+        private Timer checkout(String outcome) {
+            return checkouts.computeIfAbsent(outcome, key -> {
+                Timer timer = Timer.builder("mongodb.driver.pool.checkout")
+                                   .description("Time spent waiting for a pooled connection")
+                                   .tags(tags)
+                                   .tag("outcome", key)
+                                   .publishPercentileHistogram()
+                                   .minimumExpectedValue(MINIMUM_EXPECTED_WAIT)
+                                   .maximumExpectedValue(MAXIMUM_EXPECTED_WAIT)
+                                   .register(meterRegistry);
+                synchronized (meters) {
+                    meters.add(timer);
+                }
+                return timer;
+            });
+        }
+    }
+}
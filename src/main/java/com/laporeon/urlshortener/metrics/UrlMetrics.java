@@ -0,0 +1,108 @@
+package com.laporeon.urlshortener.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Latency timers and outcome counters for the shorten and redirect paths.
+ * Every tag takes one of a fixed set of values; short codes and URLs are never used as tags.
+ */
+@Component
+public class UrlMetrics {
+
+    private static final Duration MINIMUM_EXPECTED_LATENCY = Duration.ofNanos(100_000);
+    private static final Duration MAXIMUM_EXPECTED_LATENCY = Duration.ofSeconds(5);
+
+    private final MeterRegistry meterRegistry;
+    private final Timer redirectTimer;
+    private final Timer shortenTimer;
+    private final Timer shortenBatchTimer;
+    private final Counter singleCollisionCounter;
+    private final Counter batchCollisionCounter;
+    private final Counter dedupHitCounter;
+    private final Map<Outcome, Counter> outcomeCounters = new EnumMap<>(Outcome.class);
+
+    public UrlMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.redirectTimer = latencyTimer("url.redirect", meterRegistry);
+        this.shortenTimer = latencyTimer("url.shorten", meterRegistry, "mode", "single");
+        this.shortenBatchTimer = latencyTimer("url.shorten", meterRegistry, "mode", "batch");
+        this.singleCollisionCounter = collisionCounter("single", meterRegistry);
+        this.batchCollisionCounter = collisionCounter("batch", meterRegistry);
+        this.dedupHitCounter = Counter.builder("url.dedup.hits")
+                                      .description("Shorten requests answered with an existing mapping")
+                                      .register(meterRegistry);
+
+        for (Outcome outcome : Outcome.values()) {
+            outcomeCounters.put(outcome, Counter.builder("url.outcomes")
+                                                .description("Results of shorten and redirect requests")
+                                                .tag("outcome", outcome.name().toLowerCase(Locale.ROOT))
+                                                .register(meterRegistry));
+        }
+    }
+
+    public Timer.Sample startTimer() {
+        return Timer.start(meterRegistry);
+    }
+
+    public void recordRedirect(Timer.Sample sample, Outcome outcome) {
+        sample.stop(redirectTimer);
+        outcomeCounters.get(outcome).increment();
+    }
+
+    public void recordShorten(Timer.Sample sample) {
+        sample.stop(shortenTimer);
+    }
+
+    public void recordShortenBatch(Timer.Sample sample) {
+        sample.stop(shortenBatchTimer);
+    }
+
+    public void recordCollision() {
+        singleCollisionCounter.increment();
+    }
+
+    public void recordBatchCollisions(int collisions) {
+        batchCollisionCounter.increment(collisions);
+    }
+
+    public void recordDedupHit() {
+        dedupHitCounter.increment();
+    }
+
+    public void recordValidationError() {
+        outcomeCounters.get(Outcome.VALIDATION_ERROR).increment();
+    }
+
+    private static Timer latencyTimer(String name, MeterRegistry meterRegistry, String... tags) {
+        return Timer.builder(name)
+                    .tags(tags)
+                    .publishPercentileHistogram()
+                    .minimumExpectedValue(MINIMUM_EXPECTED_LATENCY)
+                    .maximumExpectedValue(MAXIMUM_EXPECTED_LATENCY)
+                    .register(meterRegistry);
+    }
+
+    private static Counter collisionCounter(String mode, MeterRegistry meterRegistry) {
+        return Counter.builder("url.short_code.collisions")
+                      .description("Generated short codes rejected because they were already taken")
+                      .tag("mode", mode)
+                      .register(meterRegistry);
+    }
+
+    public enum Outcome {
+        FOUND,
+        NOT_FOUND,
+        EXPIRED,
+        VALIDATION_ERROR,
+        UNAVAILABLE,
+        ERROR
+    }
+}
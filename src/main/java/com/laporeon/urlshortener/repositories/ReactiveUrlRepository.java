@@ -0,0 +1,13 @@
+package com.laporeon.urlshortener.repositories;
+
+import com.laporeon.urlshortener.entities.Url;
+import org.springframework.data.mongodb.repository.Query;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+@Repository
+public interface ReactiveUrlRepository extends ReactiveMongoRepository<Url, String> {
+    @Query(value = "{ 'short_code': ?0 }", fields = "{ 'original_url': 1, 'expires_at': 1, 'permanent': 1, '_id': 0 }")
+    Mono<Url> findRedirectTargetByShortCode(String shortCode);
+}
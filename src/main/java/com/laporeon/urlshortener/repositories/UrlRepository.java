@@ -7,8 +7,8 @@ import org.springframework.stereotype.Repository;
 import java.util.Optional;
 
 @Repository
-public interface UrlRepository extends MongoRepository<Url, String> {
-    Boolean existsByShortCode(String shortCode);
-
+public interface UrlRepository extends MongoRepository<Url, String>, UrlRepositoryCustom {
     Optional<Url> findByShortCode(String shortCode);
+
+    Optional<Url> findByDedupKey(String dedupKey);
 }
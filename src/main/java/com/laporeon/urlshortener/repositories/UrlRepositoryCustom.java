@@ -0,0 +1,43 @@
+package com.laporeon.urlshortener.repositories;
+
+import com.laporeon.urlshortener.entities.Url;
+import com.mongodb.ReadPreference;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+public interface UrlRepositoryCustom {
+
+    /**
+     * Looks up only the fields a redirect needs, reading the raw BSON instead of mapping the entity.
+     * Urls past their expiration are still returned until the TTL monitor removes them, so callers must check expiresAt.
+     *
+     * @return a url holding only shortCode, originalUrl and expiresAt
+     */
+    Optional<Url> findRedirectTarget(String shortCode);
+
+    /**
+     * Same as {@link #findRedirectTarget(String)}, reading from the members {@code readPreference} selects.
+     */
+    Optional<Url> findRedirectTarget(String shortCode, ReadPreference readPreference);
+
+    /**
+     * Inserts all urls with a single unordered bulk write.
+     *
+     * @return positions in {@code urls} of the documents rejected because of a duplicate key
+     */
+    List<Integer> insertAllUnordered(List<Url> urls);
+
+    /**
+     * Adds each count to the click counter of its short code with a single unordered bulk write.
+     */
+    void incrementClickCounts(Map<String, Long> clicksByShortCode);
+
+    /**
+     * Streams the short codes of every unexpired url, optionally only those created after {@code createdAfter}.
+     */
+    void streamLiveShortCodes(Instant createdAfter, Consumer<String> consumer);
+}
@@ -0,0 +1,127 @@
+package com.laporeon.urlshortener.repositories;
+
+import com.laporeon.urlshortener.entities.Url;
+import com.mongodb.ReadPreference;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Projections;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.bson.BsonBoolean;
+import org.bson.RawBsonDocument;
+import org.bson.conversions.Bson;
+import org.bson.types.ObjectId;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+@RequiredArgsConstructor
+public class UrlRepositoryImpl implements UrlRepositoryCustom {
+
+    private static final int DUPLICATE_KEY_ERROR_CODE = 11000;
+    private static final String SHORT_CODE_FIELD = "short_code";
+    private static final String ORIGINAL_URL_FIELD = "original_url";
+    private static final String EXPIRES_AT_FIELD = "expires_at";
+    private static final String PERMANENT_FIELD = "permanent";
+    private static final Bson REDIRECT_PROJECTION = Projections.fields(
+            Projections.include(ORIGINAL_URL_FIELD, EXPIRES_AT_FIELD, PERMANENT_FIELD),
+            Projections.excludeId());
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public Optional<Url> findRedirectTarget(String shortCode) {
+        return findRedirectTarget(shortCode, ReadPreference.primary());
+    }
+
+    @Override
+    public Optional<Url> findRedirectTarget(String shortCode, ReadPreference readPreference) {
+        RawBsonDocument document = mongoTemplate.execute(Url.class, collection ->
+                collection.withDocumentClass(RawBsonDocument.class)
+                          .withReadPreference(readPreference)
+                          .find(Filters.eq(SHORT_CODE_FIELD, shortCode))
+                          .projection(REDIRECT_PROJECTION)
+                          .limit(1)
+                          .first());
+
+        if (document == null) {
+            return Optional.empty();
+        }
+
+        return Optional.of(Url.builder()
+                              .shortCode(shortCode)
+                              .originalUrl(document.getString(ORIGINAL_URL_FIELD).getValue())
+                              .expiresAt(Instant.ofEpochMilli(document.getDateTime(EXPIRES_AT_FIELD).getValue()))
+                              .permanent(document.getBoolean(PERMANENT_FIELD, BsonBoolean.FALSE).getValue())
+                              .build());
+    }
+
+    @Override
+    public List<Integer> insertAllUnordered(List<Url> urls) {
+        if (urls.isEmpty()) {
+            return List.of();
+        }
+
+        try {
+            mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Url.class)
+                         .insert(urls)
+                         .execute();
+            return List.of();
+        } catch (BulkOperationException ex) {
+            List<Integer> duplicates = new ArrayList<>(ex.getErrors().size());
+
+            for (BulkWriteError error : ex.getErrors()) {
+                if (error.getCode() != DUPLICATE_KEY_ERROR_CODE) {
+                    throw ex;
+                }
+                duplicates.add(error.getIndex());
+            }
+
+            return duplicates;
+        }
+    }
+
+    @Override
+    public void incrementClickCounts(Map<String, Long> clicksByShortCode) {
+        if (clicksByShortCode.isEmpty()) {
+            return;
+        }
+
+        BulkOperations operations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Url.class);
+
+        clicksByShortCode.forEach((shortCode, clicks) ->
+                operations.updateOne(query(where("shortCode").is(shortCode)), new Update().inc("clickCount", clicks)));
+
+        operations.execute();
+    }
+
+    @Override
+    public void streamLiveShortCodes(Instant createdAfter, Consumer<String> consumer) {
+        Criteria criteria = where("expiresAt").gt(Instant.now());
+
+        if (createdAfter != null) {
+            criteria = criteria.and("_id").gte(ObjectId.getSmallestWithDate(Date.from(createdAfter)));
+        }
+
+        Query query = query(criteria);
+        query.fields().include("shortCode");
+
+        try (Stream<Url> urls = mongoTemplate.stream(query, Url.class)) {
+            urls.forEach(url -> consumer.accept(url.getShortCode()));
+        }
+    }
+}
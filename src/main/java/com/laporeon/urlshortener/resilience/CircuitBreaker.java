@@ -0,0 +1,148 @@
+package com.laporeon.urlshortener.resilience;
+
+import com.laporeon.urlshortener.config.properties.ResilienceProperties;
+
+import java.util.function.LongSupplier;
+
+/**
+ * Count-based circuit breaker. While closed it keeps the outcome of the last lookups in a ring and opens
+ * once enough of them failed. While open every call is refused until the open duration has passed, then
+ * a fixed number of trial calls is let through: one failure opens it again, all of them succeeding closes
+ * it with an empty window.
+ * <p>
+ * The closed state is read without locking, so a healthy store costs one volatile read per call.
+ */
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    private final boolean[] outcomes;
+    private final int minimumCalls;
+    private final int failureRateThreshold;
+    private final long openNanos;
+    private final int halfOpenCalls;
+    private final LongSupplier nanoClock;
+
+    private volatile State state = State.CLOSED;
+    private int next;
+    private int recorded;
+    private int failures;
+    private long openedAt;
+    private int trialsStarted;
+    private int trialsSucceeded;
+
+    public CircuitBreaker(ResilienceProperties.CircuitBreaker properties, LongSupplier nanoClock) {
+        this.outcomes = new boolean[properties.getSlidingWindowSize()];
+        this.minimumCalls = Math.min(properties.getMinimumCalls(), properties.getSlidingWindowSize());
+        this.failureRateThreshold = properties.getFailureRateThreshold();
+        this.openNanos = properties.getOpenDuration().toNanos();
+        this.halfOpenCalls = properties.getHalfOpenCalls();
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * @return whether the call may go ahead; if so its outcome must be reported to {@link #onSuccess()} or
+     * {@link #onFailure()}
+     */
+    public boolean tryAcquirePermission() {
+        if (state == State.CLOSED) {
+            return true;
+        }
+
+        synchronized (this) {
+            if (state == State.OPEN) {
+                if (nanoClock.getAsLong() - openedAt < openNanos) {
+                    return false;
+                }
+                state = State.HALF_OPEN;
+                trialsStarted = 0;
+                trialsSucceeded = 0;
+            }
+
+            if (state == State.HALF_OPEN) {
+                if (trialsStarted >= halfOpenCalls) {
+                    return false;
+                }
+                trialsStarted++;
+            }
+            return true;
+        }
+    }
+
+    public synchronized void onSuccess() {
+        if (state == State.HALF_OPEN) {
+            if (++trialsSucceeded >= halfOpenCalls) {
+                close();
+            }
+            return;
+        }
+        record(false);
+    }
+
+    public synchronized void onFailure() {
+        if (state == State.HALF_OPEN) {
+            open();
+            return;
+        }
+        record(true);
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    /**
+     * @return percentage of failures in the current window, or -1 while it holds fewer than the minimum calls
+     */
+    public synchronized double failureRate() {
+        return recorded < minimumCalls ? -1 : failures * 100.0 / recorded;
+    }
+
+    /**
+     * @return nanoseconds until an open breaker lets trial calls through, 0 in any other state
+     */
+    public synchronized long remainingOpenNanos() {
+        return state == State.OPEN ? Math.max(0, openNanos - (nanoClock.getAsLong() - openedAt)) : 0;
+    }
+
+    // Outcomes arriving while open belong to calls started before it opened and are dropped.
+    private void record(boolean failure) {
+        if (state != State.CLOSED) {
+            return;
+        }
+
+        if (recorded == outcomes.length) {
+            if (outcomes[next]) {
+                failures--;
+            }
+        } else {
+            recorded++;
+        }
+
+        outcomes[next] = failure;
+        if (failure) {
+            failures++;
+        }
+        next = (next + 1) % outcomes.length;
+
+        if (recorded >= minimumCalls && failures * 100 >= failureRateThreshold * recorded) {
+            open();
+        }
+    }
+
+    private void open() {
+        state = State.OPEN;
+        openedAt = nanoClock.getAsLong();
+    }
+
+    private void close() {
+        next = 0;
+        recorded = 0;
+        failures = 0;
+        state = State.CLOSED;
+    }
+}
@@ -0,0 +1,205 @@
+package com.laporeon.urlshortener.resilience;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.laporeon.urlshortener.config.properties.ResilienceProperties;
+import com.laporeon.urlshortener.entities.Url;
+import com.laporeon.urlshortener.exceptions.StorageUnavailableException;
+import com.laporeon.urlshortener.storage.UrlStore;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Redirect lookups against the {@link UrlStore}, guarded so that a slow or failing database cannot hold
+ * request threads. Each lookup needs a free bulkhead slot and the circuit breaker's permission, runs on a
+ * virtual thread and is waited for at most the configured timeout. Successful lookups are remembered in a
+ * bounded last known good cache; when a lookup is refused or fails, the remembered mapping is served
+ * instead, and only if there is none does the redirect fail fast with {@link StorageUnavailableException}.
+ * <p>
+ * A lookup that timed out keeps its bulkhead slot until the driver gives up on it, so a hung database
+ * fills the bulkhead and further lookups are refused rather than piling up more blocked queries.
+ */
+@Slf4j
+@Component
+@EnableConfigurationProperties(ResilienceProperties.class)
+public class RedirectLookup {
+
+    private final UrlStore urlStore;
+    private final boolean enabled;
+    private final long timeoutNanos;
+    private final Semaphore bulkhead;
+    private final int maxConcurrentCalls;
+    private final CircuitBreaker circuitBreaker;
+    private final Cache<String, Url> lastKnownGood;
+    private final ExecutorService executor = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("redirect-lookup-", 0).factory());
+
+    private final Counter successes;
+    private final Counter failures;
+    private final Counter timeouts;
+    private final Counter rejectedOpen;
+    private final Counter rejectedFull;
+    private final Counter staleServed;
+    private final Counter unavailable;
+
+    public RedirectLookup(UrlStore urlStore, ResilienceProperties properties, MeterRegistry meterRegistry) {
+        this.urlStore = urlStore;
+        this.enabled = properties.isEnabled();
+        this.timeoutNanos = properties.getTimeout().toNanos();
+        this.maxConcurrentCalls = properties.getBulkhead().getMaxConcurrentCalls();
+        this.bulkhead = new Semaphore(maxConcurrentCalls);
+        this.circuitBreaker = new CircuitBreaker(properties.getCircuitBreaker(), System::nanoTime);
+        this.lastKnownGood = Caffeine.newBuilder()
+                                     .maximumSize(properties.getLastKnownGood().getMaximumSize())
+                                     .expireAfter(Expiry.writing(RedirectLookup::remainingLifetime))
+                                     .build();
+
+        this.successes = meterRegistry.counter("url.store.lookups", "outcome", "success");
+        this.failures = meterRegistry.counter("url.store.lookups", "outcome", "failure");
+        this.timeouts = meterRegistry.counter("url.store.lookups", "outcome", "timeout");
+        this.rejectedOpen = meterRegistry.counter("url.store.lookups", "outcome", "circuit_open");
+        this.rejectedFull = meterRegistry.counter("url.store.lookups", "outcome", "bulkhead_full");
+        this.staleServed = meterRegistry.counter("url.redirect.stale", "outcome", "served");
+        this.unavailable = meterRegistry.counter("url.redirect.stale", "outcome", "unavailable");
+
+        Gauge.builder("url.store.circuit.state", circuitBreaker, breaker -> breaker.getState().ordinal())
+             .description("0 closed, 1 open, 2 half open")
+             .register(meterRegistry);
+        Gauge.builder("url.store.bulkhead.available", bulkhead, Semaphore::availablePermits).register(meterRegistry);
+        Gauge.builder("url.redirect.last_known_good.size", lastKnownGood, Cache::estimatedSize).register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void stop() {
+        executor.shutdownNow();
+    }
+
+    public Optional<Url> find(String shortCode) {
+        if (!enabled) {
+            return urlStore.findRedirectTarget(shortCode);
+        }
+
+        if (!bulkhead.tryAcquire()) {
+            rejectedFull.increment();
+            return fallback(shortCode, null);
+        }
+
+        if (!circuitBreaker.tryAcquirePermission()) {
+            bulkhead.release();
+            rejectedOpen.increment();
+            return fallback(shortCode, null);
+        }
+
+        CompletableFuture<Optional<Url>> lookup;
+        try {
+            lookup = CompletableFuture.supplyAsync(() -> {
+                try {
+                    return urlStore.findRedirectTarget(shortCode);
+                } finally {
+                    bulkhead.release();
+                }
+            }, executor);
+        } catch (RuntimeException ex) {
+            bulkhead.release();
+            circuitBreaker.onFailure();
+            failures.increment();
+            return fallback(shortCode, ex);
+        }
+
+        try {
+            Optional<Url> url = lookup.get(timeoutNanos, TimeUnit.NANOSECONDS);
+            circuitBreaker.onSuccess();
+            successes.increment();
+            url.ifPresent(found -> lastKnownGood.put(shortCode, found));
+            return url;
+        } catch (TimeoutException ex) {
+            circuitBreaker.onFailure();
+            timeouts.increment();
+            return fallback(shortCode, ex);
+        } catch (ExecutionException ex) {
+            circuitBreaker.onFailure();
+            failures.increment();
+            return fallback(shortCode, ex.getCause());
+        } catch (InterruptedException ex) {
+            // The permission must still be reported, or a half open breaker would wait for this trial forever.
+            circuitBreaker.onFailure();
+            failures.increment();
+            Thread.currentThread().interrupt();
+            return fallback(shortCode, ex);
+        }
+    }
+
+    public CircuitBreaker.State circuitState() {
+        return circuitBreaker.getState();
+    }
+
+    public double failureRate() {
+        return circuitBreaker.failureRate();
+    }
+
+    public int bulkheadAvailable() {
+        return bulkhead.availablePermits();
+    }
+
+    public int bulkheadSize() {
+        return maxConcurrentCalls;
+    }
+
+    public long lastKnownGoodSize() {
+        return lastKnownGood.estimatedSize();
+    }
+
+    public long staleServedCount() {
+        return (long) staleServed.count();
+    }
+
+    public long unavailableCount() {
+        return (long) unavailable.count();
+    }
+
+    /**
+     * Serves the last known good mapping, which the caller checks for expiry like any other, or fails fast.
+     */
+    private Optional<Url> fallback(String shortCode, Throwable cause) {
+        Url url = lastKnownGood.getIfPresent(shortCode);
+
+        if (url != null) {
+            staleServed.increment();
+            return Optional.of(url);
+        }
+
+        unavailable.increment();
+        if (cause != null) {
+            log.warn("Redirect lookup failed with no last known good mapping | shortCode={} | state={} | exception={}",
+                     shortCode, circuitBreaker.getState(), cause.getClass().getSimpleName());
+        }
+
+        long retryAfterSeconds = TimeUnit.NANOSECONDS.toSeconds(circuitBreaker.remainingOpenNanos() + 999_999_999);
+        throw new StorageUnavailableException(Math.max(1, retryAfterSeconds), cause);
+    }
+
+    private static Duration remainingLifetime(String shortCode, Url url) {
+        if (url.getExpiresAt() == null) {
+            return Duration.ofNanos(Long.MAX_VALUE);
+        }
+        Duration remaining = Duration.between(Instant.now(), url.getExpiresAt());
+        return remaining.isNegative() ? Duration.ZERO : remaining;
+    }
+}
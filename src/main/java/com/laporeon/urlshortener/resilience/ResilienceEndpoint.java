@@ -0,0 +1,34 @@
+package com.laporeon.urlshortener.resilience;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Exposes the state of the guarded redirect lookups at {@code /actuator/resilience}.
+ */
+@Component
+@Endpoint(id = "resilience")
+@RequiredArgsConstructor
+public class ResilienceEndpoint {
+
+    private final RedirectLookup redirectLookup;
+
+    @ReadOperation
+    public Map<String, Object> resilience() {
+        return Map.of(
+                "circuitBreaker", Map.of(
+                        "state", redirectLookup.circuitState(),
+                        "failureRate", redirectLookup.failureRate()),
+                "bulkhead", Map.of(
+                        "available", redirectLookup.bulkheadAvailable(),
+                        "maxConcurrentCalls", redirectLookup.bulkheadSize()),
+                "lastKnownGood", Map.of(
+                        "size", redirectLookup.lastKnownGoodSize(),
+                        "staleServed", redirectLookup.staleServedCount(),
+                        "unavailable", redirectLookup.unavailableCount()));
+    }
+}
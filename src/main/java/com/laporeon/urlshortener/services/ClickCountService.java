@@ -0,0 +1,92 @@
+package com.laporeon.urlshortener.services;
+
+import com.laporeon.urlshortener.config.properties.ClickCountProperties;
+import com.laporeon.urlshortener.storage.UrlStore;
+import com.laporeon.urlshortener.trending.TrendingLinks;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Buffers click events from the redirect path and writes them to Mongo in the background.
+ * Recording a click is a lock-free queue offer; the flusher sums events per short code and
+ * applies them with a single unordered bulk {@code $inc}. Every click also feeds {@link TrendingLinks}.
+ */
+@Slf4j
+@Service
+@EnableConfigurationProperties(ClickCountProperties.class)
+public class ClickCountService {
+
+    private final UrlStore urlStore;
+    private final TrendingLinks trendingLinks;
+    private final boolean enabled;
+    private final int bufferSize;
+
+    private final Queue<String> buffer = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger buffered = new AtomicInteger();
+    private final Counter droppedCounter;
+
+    public ClickCountService(UrlStore urlStore, TrendingLinks trendingLinks, ClickCountProperties properties,
+                             MeterRegistry meterRegistry) {
+        this.urlStore = urlStore;
+        this.trendingLinks = trendingLinks;
+        this.enabled = properties.isEnabled();
+        this.bufferSize = properties.getBufferSize();
+        this.droppedCounter = meterRegistry.counter("url.clicks.dropped");
+
+        meterRegistry.gauge("url.clicks.buffered", buffered);
+    }
+
+    public void record(String shortCode) {
+        trendingLinks.record(shortCode);
+
+        if (!enabled) {
+            return;
+        }
+
+        if (buffered.incrementAndGet() > bufferSize) {
+            buffered.decrementAndGet();
+            droppedCounter.increment();
+            return;
+        }
+
+        buffer.offer(shortCode);
+    }
+
+    @Scheduled(fixedDelayString = "${app.click-count.flush-interval:5s}")
+    public synchronized void flush() {
+        Map<String, Long> clicks = new HashMap<>();
+
+        String shortCode;
+        while ((shortCode = buffer.poll()) != null) {
+            buffered.decrementAndGet();
+            clicks.merge(shortCode, 1L, Long::sum);
+        }
+
+        if (clicks.isEmpty()) {
+            return;
+        }
+
+        try {
+            urlStore.incrementClickCounts(clicks);
+            log.debug("Flushed click counts | shortCodes={}", clicks.size());
+        } catch (RuntimeException ex) {
+            log.warn("Failed to flush click counts | shortCodes={} | message={}", clicks.size(), ex.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
@@ -0,0 +1,103 @@
+package com.laporeon.urlshortener.services;
+
+import com.laporeon.urlshortener.cache.RedirectCache;
+import com.laporeon.urlshortener.cache.ShortCodeFilter;
+import com.laporeon.urlshortener.config.properties.ShortCodeProperties;
+import com.laporeon.urlshortener.dtos.request.UrlRequestDTO;
+import com.laporeon.urlshortener.dtos.response.UrlResponseDTO;
+import com.laporeon.urlshortener.entities.Url;
+import com.laporeon.urlshortener.exceptions.ShortCodeGenerationException;
+import com.laporeon.urlshortener.exceptions.ShortCodeNotFoundException;
+import com.laporeon.urlshortener.repositories.ReactiveUrlRepository;
+import com.laporeon.urlshortener.utils.BaseUrlGenerator;
+import com.laporeon.urlshortener.utils.ExpirationDateGenerator;
+import com.laporeon.urlshortener.utils.ShortCodeGenerator;
+import com.laporeon.urlshortener.utils.UrlNormalizer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.stereotype.Service;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.retry.Retry;
+
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * Non-blocking counterpart of {@link UrlService}, used when the application runs on WebFlux.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@EnableConfigurationProperties(ShortCodeProperties.class)
+public class ReactiveUrlService {
+
+    private final ReactiveUrlRepository urlRepository;
+    private final ShortCodeGenerator codeGenerator;
+    private final ExpirationDateGenerator dateGenerator;
+    private final BaseUrlGenerator baseUrlGenerator;
+    private final RedirectCache redirectCache;
+    private final ShortCodeFilter shortCodeFilter;
+    private final ShortCodeProperties shortCodeProperties;
+    private final UrlNormalizer urlNormalizer;
+
+    public Mono<UrlResponseDTO> shortenUrl(UrlRequestDTO dto, ServerHttpRequest request) {
+        Instant expiresAt = dateGenerator.generateExpiresAt(dto.expirationDate());
+        String originalUrl = urlNormalizer.normalize(dto.originalUrl());
+        int maxAttempts = shortCodeProperties.getMaxAttempts();
+
+        // The range generator may block on a counter lease, so codes are drawn off the event loop.
+        return Mono.fromSupplier(() -> Url.builder()
+                                          .shortCode(codeGenerator.generateShortCode())
+                                          .originalUrl(originalUrl)
+                                          .expiresAt(expiresAt)
+                                          .permanent(dto.permanent())
+                                          .build())
+                   .subscribeOn(Schedulers.boundedElastic())
+                   .flatMap(urlRepository::insert)
+                   .retryWhen(Retry.max(maxAttempts - 1L).filter(DuplicateKeyException.class::isInstance))
+                   .onErrorMap(Exceptions::isRetryExhausted, ex -> new ShortCodeGenerationException(maxAttempts))
+                   .map(url -> {
+                       shortCodeFilter.add(url.getShortCode());
+
+                       log.debug("Short code '{}' generated for URL {} at {}", url.getShortCode(), url.getOriginalUrl(), Instant.now());
+
+                       return new UrlResponseDTO(
+                               baseUrlGenerator.generateBaseUrl(request) + "/" + url.getShortCode(),
+                               url.getExpiresAt()
+                       );
+                   });
+    }
+
+    public Mono<Url> findByShortCode(String shortCode) {
+        Optional<Url> cached = redirectCache.get(shortCode);
+
+        if (cached.isPresent()) {
+            return Mono.just(cached.get());
+        }
+
+        if (shortCodeFilter.isDefinitelyAbsent(shortCode)) {
+            return Mono.error(new ShortCodeNotFoundException(shortCode));
+        }
+
+        // Only a missing code is a false positive of the filter; an expired one was rightly let through.
+        return urlRepository.findRedirectTargetByShortCode(shortCode)
+                            .switchIfEmpty(Mono.error(() -> {
+                                shortCodeFilter.recordFalsePositive();
+                                return new ShortCodeNotFoundException(shortCode);
+                            }))
+                            .flatMap(url -> url.getExpiresAt().isAfter(Instant.now())
+                                    ? Mono.just(url)
+                                    : Mono.error(new ShortCodeNotFoundException(shortCode)))
+                            .doOnNext(url -> {
+                                url.setShortCode(shortCode);
+                                redirectCache.put(url);
+                            });
+    }
+}
@@ -1,49 +1,84 @@
 package com.laporeon.urlshortener.services;
 
+import com.laporeon.urlshortener.cache.RedirectCache;
+import com.laporeon.urlshortener.cache.ShortCodeFilter;
+import com.laporeon.urlshortener.config.properties.DedupProperties;
+import com.laporeon.urlshortener.config.properties.ShortCodeProperties;
 import com.laporeon.urlshortener.dtos.request.UrlRequestDTO;
 import com.laporeon.urlshortener.dtos.response.UrlResponseDTO;
 import com.laporeon.urlshortener.entities.Url;
+import com.laporeon.urlshortener.exceptions.ShortCodeGenerationException;
 import com.laporeon.urlshortener.exceptions.ShortCodeNotFoundException;
-import com.laporeon.urlshortener.repositories.UrlRepository;
+import com.laporeon.urlshortener.exceptions.StorageUnavailableException;
+import com.laporeon.urlshortener.metrics.UrlMetrics;
+import com.laporeon.urlshortener.metrics.UrlMetrics.Outcome;
+import com.laporeon.urlshortener.resilience.RedirectLookup;
+import com.laporeon.urlshortener.storage.UrlStore;
 import com.laporeon.urlshortener.utils.BaseUrlGenerator;
 import com.laporeon.urlshortener.utils.ExpirationDateGenerator;
 import com.laporeon.urlshortener.utils.ShortCodeGenerator;
+import com.laporeon.urlshortener.utils.UrlNormalizer;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
+@EnableConfigurationProperties({ShortCodeProperties.class, DedupProperties.class})
 public class UrlService {
 
-    private final UrlRepository urlRepository;
+    private final UrlStore urlStore;
     private final ShortCodeGenerator codeGenerator;
     private final ExpirationDateGenerator dateGenerator;
     private final BaseUrlGenerator baseUrlGenerator;
+    private final RedirectCache redirectCache;
+    private final ShortCodeFilter shortCodeFilter;
+    private final ShortCodeProperties shortCodeProperties;
+    private final UrlMetrics urlMetrics;
+    private final UrlNormalizer urlNormalizer;
+    private final DedupProperties dedupProperties;
+    private final RedirectLookup redirectLookup;
 
     @Transactional
     public UrlResponseDTO shortenUrl(UrlRequestDTO dto, HttpServletRequest request) {
-        String shortCode;
-        do {
-            shortCode = codeGenerator.generateShortCode();
-        } while(urlRepository.existsByShortCode(shortCode));
+        Timer.Sample sample = urlMetrics.startTimer();
+        try {
+            return shorten(dto, request);
+        } finally {
+            urlMetrics.recordShorten(sample);
+        }
+    }
 
-        Instant expiresAt = dateGenerator.generateExpiresAt(dto.expirationDate());
+    public List<UrlResponseDTO> shortenUrls(List<UrlRequestDTO> dtos, HttpServletRequest request) {
+        Timer.Sample sample = urlMetrics.startTimer();
+        try {
+            return shortenAll(dtos, request);
+        } finally {
+            urlMetrics.recordShortenBatch(sample);
+        }
+    }
 
-        Url url = Url.builder()
-                     .shortCode(shortCode)
-                     .originalUrl(dto.originalUrl())
-                     .expiresAt(expiresAt)
-                     .build();
+    private UrlResponseDTO shorten(UrlRequestDTO dto, HttpServletRequest request) {
+        String originalUrl = urlNormalizer.normalize(dto.originalUrl());
+        Instant expiresAt = dateGenerator.generateExpiresAt(dto.expirationDate());
 
-        urlRepository.save(url);
+        Url url = dedupProperties.isEnabled()
+                ? findOrInsertDeduplicated(originalUrl, expiresAt, dto.permanent())
+                : insertWithUniqueShortCode(originalUrl, expiresAt, dto.permanent(), null);
+        shortCodeFilter.add(url.getShortCode());
 
-        log.info("Short code '{}' generated for URL {} at {}", shortCode, url.getOriginalUrl(), Instant.now());
+        log.debug("Short code '{}' generated for URL {} at {}", url.getShortCode(), url.getOriginalUrl(), Instant.now());
 
         String baseURL = baseUrlGenerator.generateBaseUrl(request);
 
@@ -53,7 +88,150 @@ public class UrlService {
         );
     }
 
+    private List<UrlResponseDTO> shortenAll(List<UrlRequestDTO> dtos, HttpServletRequest request) {
+        List<Url> urls = new ArrayList<>(dtos.size());
+
+        for (UrlRequestDTO dto : dtos) {
+            urls.add(Url.builder()
+                        .shortCode(codeGenerator.generateShortCode())
+                        .originalUrl(urlNormalizer.normalize(dto.originalUrl()))
+                        .expiresAt(dateGenerator.generateExpiresAt(dto.expirationDate()))
+                        .permanent(dto.permanent())
+                        .build());
+        }
+
+        insertAllWithUniqueShortCodes(urls);
+        urls.forEach(url -> shortCodeFilter.add(url.getShortCode()));
+
+        log.debug("Short codes generated for batch of {} URLs at {}", urls.size(), Instant.now());
+
+        String baseURL = baseUrlGenerator.generateBaseUrl(request);
+
+        return urls.stream()
+                   .map(url -> new UrlResponseDTO(baseURL + "/" + url.getShortCode(), url.getExpiresAt()))
+                   .toList();
+    }
+
+    private void insertAllWithUniqueShortCodes(List<Url> urls) {
+        int maxAttempts = shortCodeProperties.getMaxAttempts();
+        List<Url> pending = urls;
+
+        for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+            List<Integer> duplicates = urlStore.insertAllUnordered(pending);
+
+            if (duplicates.isEmpty()) {
+                return;
+            }
+
+            urlMetrics.recordBatchCollisions(duplicates.size());
+            log.debug("Batch hit {} duplicate short codes, retrying | attempt={}", duplicates.size(), attempt);
+
+            List<Url> retry = new ArrayList<>(duplicates.size());
+            for (int index : duplicates) {
+                Url url = pending.get(index);
+                url.setShortCode(codeGenerator.generateShortCode());
+                retry.add(url);
+            }
+            pending = retry;
+        }
+
+        throw new ShortCodeGenerationException(maxAttempts);
+    }
+
+    private Url findOrInsertDeduplicated(String originalUrl, Instant expiresAt, Boolean permanent) {
+        String dedupKey = urlNormalizer.fingerprint(originalUrl) + ":"
+                + expiresAt.toEpochMilli() / dedupProperties.getExpiryBucket().toMillis()
+                + (Boolean.TRUE.equals(permanent) ? ":permanent" : "");
+
+        Optional<Url> existing = urlStore.findByDedupKey(dedupKey);
+
+        if (existing.isEmpty()) {
+            return insertWithUniqueShortCode(originalUrl, expiresAt, permanent, dedupKey);
+        }
+
+        Instant reusableUntil = Instant.now().plus(dedupProperties.getMinRemainingLifetime());
+
+        if (existing.get().getExpiresAt().isBefore(reusableUntil)) {
+            log.debug("Existing short code '{}' expires too soon to be reused", existing.get().getShortCode());
+            return insertWithUniqueShortCode(originalUrl, expiresAt, permanent, null);
+        }
+
+        urlMetrics.recordDedupHit();
+        return existing.get();
+    }
+
+    private Url insertWithUniqueShortCode(String originalUrl, Instant expiresAt, Boolean permanent, String dedupKey) {
+        int maxAttempts = shortCodeProperties.getMaxAttempts();
+
+        for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+            Url url = Url.builder()
+                         .shortCode(codeGenerator.generateShortCode())
+                         .originalUrl(originalUrl)
+                         .expiresAt(expiresAt)
+                         .permanent(permanent)
+                         .dedupKey(dedupKey)
+                         .build();
+            try {
+                return urlStore.insert(url);
+            } catch (DuplicateKeyException ex) {
+                if (dedupKey != null) {
+                    Optional<Url> winner = urlStore.findByDedupKey(dedupKey);
+
+                    if (winner.isPresent()) {
+                        urlMetrics.recordDedupHit();
+                        return winner.get();
+                    }
+                }
+
+                urlMetrics.recordCollision();
+                log.debug("Short code '{}' already taken, retrying | attempt={}", url.getShortCode(), attempt);
+            }
+        }
+
+        throw new ShortCodeGenerationException(maxAttempts);
+    }
+
     public Url findByShortCode(String shortCode) {
-        return urlRepository.findByShortCode(shortCode).orElseThrow(() -> new ShortCodeNotFoundException(shortCode));
+        Timer.Sample sample = urlMetrics.startTimer();
+        Outcome outcome = Outcome.ERROR;
+
+        try {
+            Optional<Url> cached = redirectCache.get(shortCode);
+
+            if (cached.isPresent()) {
+                outcome = Outcome.FOUND;
+                return cached.get();
+            }
+
+            if (shortCodeFilter.isDefinitelyAbsent(shortCode)) {
+                outcome = Outcome.NOT_FOUND;
+                throw new ShortCodeNotFoundException(shortCode);
+            }
+
+            Optional<Url> found = redirectLookup.find(shortCode);
+
+            if (found.isEmpty()) {
+                shortCodeFilter.recordFalsePositive();
+                outcome = Outcome.NOT_FOUND;
+                throw new ShortCodeNotFoundException(shortCode);
+            }
+
+            Url url = found.get();
+
+            if (!url.getExpiresAt().isAfter(Instant.now())) {
+                outcome = Outcome.EXPIRED;
+                throw new ShortCodeNotFoundException(shortCode);
+            }
+
+            redirectCache.put(url);
+            outcome = Outcome.FOUND;
+
+            return url;
+        } catch (StorageUnavailableException ex) {
+            outcome = Outcome.UNAVAILABLE;
+            throw ex;
+        } finally {
+            urlMetrics.recordRedirect(sample, outcome);
+        }
     }
 }
@@ -0,0 +1,179 @@
+package com.laporeon.urlshortener.storage;
+
+import com.laporeon.urlshortener.config.properties.StorageProperties;
+import com.laporeon.urlshortener.entities.Url;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.QueryTimeoutException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+
+/**
+ * Group commit for single inserts. Callers enqueue their url and block while one writer thread
+ * gathers everything that arrives within {@code maxDelay} of the first insert, up to
+ * {@code maxBatchSize}, and writes it with one unordered bulk insert. Under load a batch also fills
+ * while the previous one is being written, so the round trip and journal commit are shared by all
+ * of them.
+ * <p>
+ * Each caller returns only once its own document is acknowledged. A duplicate key fails only the
+ * caller whose url hit it; any other error of the bulk write fails the whole batch. A caller never
+ * waits longer than {@code timeout} for a place in the queue plus its acknowledgement; past it the
+ * insert fails with a {@link QueryTimeoutException}, although a url already taken by the writer may
+ * still be stored.
+ */
+@Slf4j
+class GroupCommitWriter {
+
+    private final Function<List<Url>, List<Integer>> bulkInsert;
+    private final int maxBatchSize;
+    private final long maxDelayNanos;
+    private final long timeoutNanos;
+    private final BlockingQueue<PendingInsert> queue;
+    private final DistributionSummary batchSizes;
+    private final Thread writer;
+
+    private volatile boolean running = true;
+
+    GroupCommitWriter(Function<List<Url>, List<Integer>> bulkInsert, StorageProperties.GroupCommit properties,
+                      MeterRegistry meterRegistry) {
+        this.bulkInsert = bulkInsert;
+        this.maxBatchSize = properties.getMaxBatchSize();
+        this.maxDelayNanos = properties.getMaxDelay().toNanos();
+        this.timeoutNanos = properties.getTimeout().toNanos();
+        this.queue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+        this.batchSizes = DistributionSummary.builder("url.store.group_commit.batch_size")
+                                             .description("Inserts written per group commit")
+                                             .register(meterRegistry);
+        Gauge.builder("url.store.group_commit.queued", queue, BlockingQueue::size)
+             .description("Inserts waiting for the next group commit")
+             .register(meterRegistry);
+        this.writer = Thread.ofPlatform().name("url-group-commit").daemon().start(this::run);
+    }
+
+    Url insert(Url url) {
+        PendingInsert pending = new PendingInsert(url, new CompletableFuture<>());
+        long deadline = System.nanoTime() + timeoutNanos;
+
+        try {
+            if (!running) {
+                throw new IllegalStateException("Group commit writer is stopped");
+            }
+            if (!queue.offer(pending, timeoutNanos, TimeUnit.NANOSECONDS)) {
+                throw new QueryTimeoutException("Group commit queue stayed full for " + timeoutNanos / 1_000_000 + "ms");
+            }
+            if (!running && queue.remove(pending)) {
+                // Stopped between the check and the offer, after the writer drained the queue.
+                throw new IllegalStateException("Group commit writer is stopped");
+            }
+            return pending.result().get(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException ex) {
+            queue.remove(pending);
+            throw new QueryTimeoutException("Group commit not acknowledged within " + timeoutNanos / 1_000_000 + "ms", ex);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for group commit", ex);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(ex.getCause());
+        }
+    }
+
+    int queued() {
+        return queue.size();
+    }
+
+    void stop() {
+        running = false;
+        writer.interrupt();
+    }
+
+    private void run() {
+        List<PendingInsert> batch = new ArrayList<>(maxBatchSize);
+
+        try {
+            while (running) {
+                batch.add(queue.take());
+                try {
+                    gather(batch);
+                    flush(batch);
+                } catch (RuntimeException ex) {
+                    log.error("Group commit writer failed, failing the batch | size={}", batch.size(), ex);
+                    batch.forEach(pending -> pending.result().completeExceptionally(ex));
+                }
+                batch.clear();
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } finally {
+            // Whatever ended the thread, new inserts must fail right away instead of queueing for nobody.
+            running = false;
+            queue.drainTo(batch);
+            batch.forEach(pending -> pending.result()
+                                            .completeExceptionally(new IllegalStateException("Group commit writer is stopped")));
+        }
+    }
+
+    private void gather(List<PendingInsert> batch) throws InterruptedException {
+        long deadline = System.nanoTime() + maxDelayNanos;
+
+        while (batch.size() < maxBatchSize) {
+            queue.drainTo(batch, maxBatchSize - batch.size());
+
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= maxBatchSize || remaining <= 0) {
+                return;
+            }
+
+            PendingInsert next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    private void flush(List<PendingInsert> batch) {
+        List<Url> urls = new ArrayList<>(batch.size());
+        batch.forEach(pending -> urls.add(pending.url()));
+        batchSizes.record(urls.size());
+
+        List<Integer> duplicates;
+        try {
+            duplicates = bulkInsert.apply(urls);
+        } catch (RuntimeException ex) {
+            log.warn("Group commit of {} urls failed | message={}", urls.size(), ex.getMessage());
+            batch.forEach(pending -> pending.result().completeExceptionally(ex));
+            return;
+        }
+
+        boolean[] duplicated = new boolean[batch.size()];
+        duplicates.forEach(position -> duplicated[position] = true);
+
+        for (int position = 0; position < batch.size(); position++) {
+            PendingInsert pending = batch.get(position);
+
+            if (duplicated[position]) {
+                pending.result().completeExceptionally(
+                        new DuplicateKeyException("Short code or dedup key already taken: " + pending.url().getShortCode()));
+            } else {
+                pending.result().complete(pending.url());
+            }
+        }
+    }
+
+    private record PendingInsert(Url url, CompletableFuture<Url> result) {
+    }
+}
@@ -0,0 +1,183 @@
+package com.laporeon.urlshortener.storage;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.laporeon.urlshortener.cache.ShortCodeFilter;
+import com.laporeon.urlshortener.config.properties.StorageProperties;
+import com.laporeon.urlshortener.entities.Url;
+import com.laporeon.urlshortener.repositories.UrlRepository;
+import com.laporeon.urlshortener.storage.replica.UrlReplica;
+import com.mongodb.ReadPreference;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Stores urls in MongoDB. When the {@link UrlReplica} is serving, redirect lookups are answered from
+ * it and never reach the database. Otherwise they can go to the nearest replica set member within the
+ * staleness bound, falling back to the primary on a miss only when the code may be too new to have
+ * replicated: the {@link ShortCodeFilter} knows it, or this instance issued it within the staleness
+ * bound. With group commit enabled, single inserts from concurrent requests are written together by a
+ * {@link GroupCommitWriter}.
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.storage", name = "engine", havingValue = "mongo", matchIfMissing = true)
+@EnableConfigurationProperties(StorageProperties.class)
+public class MongoUrlStore implements UrlStore {
+
+    private final UrlRepository urlRepository;
+    private final UrlReplica urlReplica;
+    private final GroupCommitWriter groupCommitWriter;
+    private final ReadPreference secondaryReadPreference;
+    private final boolean primaryFallback;
+    private final ObjectProvider<ShortCodeFilter> shortCodeFilter;
+    private final Cache<String, Boolean> recentlyIssued;
+    private final Counter secondaryHits;
+    private final Counter secondaryMisses;
+    private final Counter fallbackFound;
+    private final Counter fallbackNotFound;
+
+    public MongoUrlStore(UrlRepository urlRepository, UrlReplica urlReplica, StorageProperties properties,
+                         ObjectProvider<ShortCodeFilter> shortCodeFilter, MeterRegistry meterRegistry) {
+        StorageProperties.SecondaryReads secondaryReads = properties.getSecondaryReads();
+
+        this.urlRepository = urlRepository;
+        this.urlReplica = urlReplica;
+        this.secondaryReadPreference = secondaryReads.isEnabled()
+                ? ReadPreference.nearest(secondaryReads.getMaxStaleness().toSeconds(), TimeUnit.SECONDS)
+                : null;
+        this.primaryFallback = secondaryReads.isEnabled() && secondaryReads.isPrimaryFallback();
+        this.shortCodeFilter = shortCodeFilter;
+        this.recentlyIssued = primaryFallback
+                ? Caffeine.newBuilder()
+                          .maximumSize(secondaryReads.getRecentCodesMaximumSize())
+                          .expireAfterWrite(secondaryReads.getMaxStaleness())
+                          .build()
+                : null;
+        this.secondaryHits = secondaryReadCounter(meterRegistry, "hit");
+        this.secondaryMisses = secondaryReadCounter(meterRegistry, "miss");
+        this.fallbackFound = primaryFallbackCounter(meterRegistry, "found");
+        this.fallbackNotFound = primaryFallbackCounter(meterRegistry, "not_found");
+        this.groupCommitWriter = properties.getGroupCommit().isEnabled()
+                ? new GroupCommitWriter(urlRepository::insertAllUnordered, properties.getGroupCommit(), meterRegistry)
+                : null;
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (groupCommitWriter != null) {
+            groupCommitWriter.stop();
+        }
+    }
+
+    @Override
+    public Url insert(Url url) {
+        Url saved = groupCommitWriter != null ? groupCommitWriter.insert(url) : urlRepository.insert(url);
+        urlReplica.put(saved);
+        issued(saved);
+        return saved;
+    }
+
+    @Override
+    public List<Integer> insertAllUnordered(List<Url> urls) {
+        List<Integer> duplicates = urlRepository.insertAllUnordered(urls);
+
+        boolean[] duplicated = new boolean[urls.size()];
+        duplicates.forEach(position -> duplicated[position] = true);
+
+        for (int position = 0; position < urls.size(); position++) {
+            if (!duplicated[position]) {
+                urlReplica.put(urls.get(position));
+                issued(urls.get(position));
+            }
+        }
+
+        return duplicates;
+    }
+
+    @Override
+    public Optional<Url> findRedirectTarget(String shortCode) {
+        if (urlReplica.isServing()) {
+            return urlReplica.find(shortCode);
+        }
+        if (secondaryReadPreference == null) {
+            return urlRepository.findRedirectTarget(shortCode);
+        }
+
+        Optional<Url> url = urlRepository.findRedirectTarget(shortCode, secondaryReadPreference);
+
+        if (url.isPresent()) {
+            secondaryHits.increment();
+            return url;
+        }
+
+        secondaryMisses.increment();
+
+        if (!primaryFallback || !mayBeTooNew(shortCode)) {
+            return url;
+        }
+
+        Optional<Url> fromPrimary = urlRepository.findRedirectTarget(shortCode);
+        (fromPrimary.isPresent() ? fallbackFound : fallbackNotFound).increment();
+        return fromPrimary;
+    }
+
+    @Override
+    public Optional<Url> findByDedupKey(String dedupKey) {
+        return urlRepository.findByDedupKey(dedupKey);
+    }
+
+    @Override
+    public void incrementClickCounts(Map<String, Long> clicksByShortCode) {
+        urlRepository.incrementClickCounts(clicksByShortCode);
+    }
+
+    @Override
+    public void streamLiveShortCodes(Instant createdAfter, Consumer<String> consumer) {
+        urlRepository.streamLiveShortCodes(createdAfter, consumer);
+    }
+
+    private void issued(Url url) {
+        if (recentlyIssued != null) {
+            recentlyIssued.put(url.getShortCode(), Boolean.TRUE);
+        }
+    }
+
+    /**
+     * Whether a code missing on a secondary may exist but not have replicated yet. Codes the filter does
+     * not know and this instance did not issue recently are taken to be absent, so a miss costs a single
+     * query; without the filter, codes just created by other instances can miss until they replicate.
+     */
+    private boolean mayBeTooNew(String shortCode) {
+        if (recentlyIssued.getIfPresent(shortCode) != null) {
+            return true;
+        }
+        ShortCodeFilter filter = shortCodeFilter.getIfAvailable();
+        return filter != null && filter.mightContain(shortCode);
+    }
+
+    private static Counter secondaryReadCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("url.store.secondary_reads")
+                      .description("Redirect lookups sent to the nearest replica set member")
+                      .tag("outcome", outcome)
+                      .register(meterRegistry);
+    }
+
+    private static Counter primaryFallbackCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("url.store.primary_fallbacks")
+                      .description("Redirect lookups retried on the primary after a secondary miss")
+                      .tag("outcome", outcome)
+                      .register(meterRegistry);
+    }
+}
@@ -0,0 +1,46 @@
+package com.laporeon.urlshortener.storage;
+
+import com.laporeon.urlshortener.entities.Url;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * Persistence operations the services rely on, implemented by every storage engine.
+ * Inserts that would reuse a taken short code or dedup key fail with
+ * {@link org.springframework.dao.DuplicateKeyException}, whatever the engine.
+ */
+public interface UrlStore {
+
+    Url insert(Url url);
+
+    /**
+     * Inserts all urls, skipping the ones whose short code or dedup key is already taken.
+     *
+     * @return positions in {@code urls} of the urls that were not inserted because of a duplicate key
+     */
+    List<Integer> insertAllUnordered(List<Url> urls);
+
+    /**
+     * Looks up only the fields a redirect needs. Urls past their expiration may still be returned
+     * until the engine removes them, so callers must check expiresAt.
+     *
+     * @return a url holding only shortCode, originalUrl and expiresAt
+     */
+    Optional<Url> findRedirectTarget(String shortCode);
+
+    Optional<Url> findByDedupKey(String dedupKey);
+
+    /**
+     * Adds each count to the click counter of its short code.
+     */
+    void incrementClickCounts(Map<String, Long> clicksByShortCode);
+
+    /**
+     * Streams the short codes of every unexpired url, optionally only those created after {@code createdAfter}.
+     */
+    void streamLiveShortCodes(Instant createdAfter, Consumer<String> consumer);
+}
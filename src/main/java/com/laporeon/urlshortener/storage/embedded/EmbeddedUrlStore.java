@@ -0,0 +1,446 @@
+package com.laporeon.urlshortener.storage.embedded;
+
+import com.laporeon.urlshortener.config.properties.StorageProperties;
+import com.laporeon.urlshortener.entities.Url;
+import com.laporeon.urlshortener.storage.UrlStore;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Single-node storage engine keeping urls in an append-only log of memory-mapped segment files.
+ * An in-memory hash index maps every short code to the segment and offset of its latest record, so a
+ * lookup is a hash probe plus a read from mapped memory. The index is rebuilt on startup by replaying
+ * the segments in order, stopping at the first record whose checksum does not match. Sealed segments
+ * that are mostly expired or superseded records are compacted by copying their live records to the
+ * active segment and deleting the file.
+ * <p>
+ * Writes are serialized by a single lock; reads take no lock.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "app.storage", name = "engine", havingValue = "embedded")
+@EnableConfigurationProperties(StorageProperties.class)
+public class EmbeddedUrlStore implements UrlStore {
+
+    private final Path directory;
+    private final int segmentSize;
+    private final double compactionThreshold;
+    private final Clock clock;
+
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final Map<String, Entry> index = new ConcurrentHashMap<>();
+    private final Map<String, String> dedupIndex = new ConcurrentHashMap<>();
+    private final NavigableMap<Long, Segment> segments = new TreeMap<>();
+
+    private volatile Segment active;
+
+    @Autowired
+    public EmbeddedUrlStore(StorageProperties properties) {
+        this(properties.getEmbedded(), Clock.systemUTC());
+    }
+
+    EmbeddedUrlStore(StorageProperties.Embedded properties, Clock clock) {
+        this.directory = Path.of(properties.getDirectory());
+        this.segmentSize = Math.toIntExact(properties.getSegmentSize().toBytes());
+        this.compactionThreshold = properties.getCompactionThreshold();
+        this.clock = clock;
+
+        recover();
+    }
+
+    @Override
+    public Url insert(Url url) {
+        writeLock.lock();
+        try {
+            if (isTaken(url, clock.millis())) {
+                throw new DuplicateKeyException("Short code or dedup key already taken: " + url.getShortCode());
+            }
+
+            if (url.getCreatedAt() == null) {
+                url.setCreatedAt(clock.instant());
+            }
+
+            append(url, 0);
+            return url;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public List<Integer> insertAllUnordered(List<Url> urls) {
+        List<Integer> duplicates = new ArrayList<>();
+
+        writeLock.lock();
+        try {
+            long now = clock.millis();
+
+            for (int position = 0; position < urls.size(); position++) {
+                Url url = urls.get(position);
+
+                if (isTaken(url, now)) {
+                    duplicates.add(position);
+                    continue;
+                }
+
+                if (url.getCreatedAt() == null) {
+                    url.setCreatedAt(Instant.ofEpochMilli(now));
+                }
+
+                append(url, 0);
+            }
+        } finally {
+            writeLock.unlock();
+        }
+
+        return duplicates;
+    }
+
+    @Override
+    public Optional<Url> findRedirectTarget(String shortCode) {
+        Entry entry = index.get(shortCode);
+
+        if (entry == null) {
+            return Optional.empty();
+        }
+
+        return Optional.of(Url.builder()
+                              .shortCode(shortCode)
+                              .originalUrl(UrlRecord.readOriginalUrl(entry.segment(), entry.offset()))
+                              .expiresAt(Instant.ofEpochMilli(entry.expiresAt()))
+                              .permanent(UrlRecord.isPermanent(entry.segment(), entry.offset()))
+                              .build());
+    }
+
+    @Override
+    public Optional<Url> findByDedupKey(String dedupKey) {
+        String shortCode = dedupIndex.get(dedupKey);
+        Entry entry = shortCode == null ? null : index.get(shortCode);
+
+        if (entry == null || !dedupKey.equals(entry.dedupKey())) {
+            return Optional.empty();
+        }
+
+        UrlRecord.Put put = UrlRecord.readPut(entry.segment(), entry.offset());
+
+        return Optional.of(Url.builder()
+                              .shortCode(put.shortCode())
+                              .originalUrl(put.originalUrl())
+                              .dedupKey(put.dedupKey())
+                              .expiresAt(Instant.ofEpochMilli(put.expiresAt()))
+                              .createdAt(Instant.ofEpochMilli(put.createdAt()))
+                              .permanent(put.permanent())
+                              .clickCount(entry.clickCount())
+                              .build());
+    }
+
+    @Override
+    public void incrementClickCounts(Map<String, Long> clicksByShortCode) {
+        writeLock.lock();
+        try {
+            clicksByShortCode.forEach((shortCode, delta) -> {
+                Entry entry = index.get(shortCode);
+
+                if (entry != null) {
+                    write(UrlRecord.encodeClick(shortCode, delta));
+                    index.put(shortCode, entry.withClickCount(entry.clickCount() + delta));
+                }
+            });
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public void streamLiveShortCodes(Instant createdAfter, Consumer<String> consumer) {
+        long now = clock.millis();
+        long createdAfterMillis = createdAfter == null ? Long.MIN_VALUE : createdAfter.toEpochMilli();
+
+        index.forEach((shortCode, entry) -> {
+            if (entry.isLive(now) && entry.createdAt() >= createdAfterMillis) {
+                consumer.accept(shortCode);
+            }
+        });
+    }
+
+    /**
+     * Drops expired urls from the index, then rewrites every sealed segment whose live records take
+     * less than the compaction threshold. Live records are copied before the segment is deleted, so a
+     * crash in between only leaves duplicates that replay resolves in favour of the newer copy.
+     */
+    @Scheduled(fixedDelayString = "${app.storage.embedded.compaction-interval:10m}",
+               initialDelayString = "${app.storage.embedded.compaction-interval:10m}")
+    public void compact() {
+        long now = clock.millis();
+        removeExpired(now);
+
+        Map<Long, Long> liveBytes = new HashMap<>();
+        index.values().forEach(entry -> liveBytes.merge(entry.segment().id(), (long) entry.length(), Long::sum));
+
+        List<Segment> sealed;
+        writeLock.lock();
+        try {
+            sealed = new ArrayList<>(segments.headMap(active.id(), false).values());
+        } finally {
+            writeLock.unlock();
+        }
+
+        for (Segment segment : sealed) {
+            long live = liveBytes.getOrDefault(segment.id(), 0L);
+
+            if (live < compactionThreshold * segment.writePosition()) {
+                compactSegment(segment);
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.storage.embedded.force-interval:1s}")
+    public void force() {
+        active.force();
+    }
+
+    @PreDestroy
+    public void close() {
+        writeLock.lock();
+        try {
+            active.force();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private void compactSegment(Segment segment) {
+        int relocated = 0;
+
+        writeLock.lock();
+        try {
+            int offset = 0;
+            int length;
+
+            while ((length = UrlRecord.validLength(segment, offset)) > 0) {
+                String shortCode = UrlRecord.type(segment, offset) == UrlRecord.PUT
+                        ? UrlRecord.readPut(segment, offset).shortCode()
+                        : UrlRecord.readClick(segment, offset).shortCode();
+
+                // Records pointing at this or an older segment, including those only referenced by a
+                // click record here, lose state when this file goes, so they are rewritten first.
+                Entry entry = index.get(shortCode);
+                if (entry != null && entry.segment().id() <= segment.id()) {
+                    relocate(entry);
+                    relocated++;
+                }
+
+                offset += length;
+            }
+
+            active.force();
+            segments.remove(segment.id());
+            segment.delete();
+        } finally {
+            writeLock.unlock();
+        }
+
+        log.info("Compacted segment | segment={} | relocatedRecords={}", segment.id(), relocated);
+    }
+
+    private void relocate(Entry entry) {
+        UrlRecord.Put put = UrlRecord.readPut(entry.segment(), entry.offset());
+
+        append(Url.builder()
+                  .shortCode(put.shortCode())
+                  .originalUrl(put.originalUrl())
+                  .dedupKey(put.dedupKey())
+                  .expiresAt(Instant.ofEpochMilli(put.expiresAt()))
+                  .createdAt(Instant.ofEpochMilli(put.createdAt()))
+                  .permanent(put.permanent())
+                  .build(),
+               entry.clickCount());
+    }
+
+    private void removeExpired(long now) {
+        writeLock.lock();
+        try {
+            index.forEach((shortCode, entry) -> {
+                if (!entry.isLive(now)) {
+                    remove(shortCode);
+                }
+            });
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private boolean isTaken(Url url, long now) {
+        Entry entry = index.get(url.getShortCode());
+
+        if (entry != null && entry.isLive(now)) {
+            return true;
+        }
+
+        if (url.getDedupKey() == null) {
+            return false;
+        }
+
+        String owner = dedupIndex.get(url.getDedupKey());
+        Entry ownerEntry = owner == null ? null : index.get(owner);
+
+        return ownerEntry != null && ownerEntry.isLive(now);
+    }
+
+    private void append(Url url, long clickCount) {
+        ByteBuffer record = UrlRecord.encodePut(url, clickCount);
+        int length = record.remaining();
+        Segment segment = write(record);
+
+        index(url.getShortCode(), new Entry(segment,
+                                            segment.writePosition() - length,
+                                            length,
+                                            url.getExpiresAt().toEpochMilli(),
+                                            url.getCreatedAt().toEpochMilli(),
+                                            url.getDedupKey(),
+                                            clickCount));
+    }
+
+    private Segment write(ByteBuffer record) {
+        int length = record.remaining();
+
+        if (length > segmentSize) {
+            throw new IllegalArgumentException("Record of %d bytes does not fit in a segment of %d bytes"
+                                                       .formatted(length, segmentSize));
+        }
+
+        if (!active.hasRoomFor(length)) {
+            active.force();
+            active = openSegment(active.id() + 1);
+        }
+
+        active.append(record);
+        return active;
+    }
+
+    private void index(String shortCode, Entry entry) {
+        Entry previous = index.put(shortCode, entry);
+
+        if (previous != null && previous.dedupKey() != null && !previous.dedupKey().equals(entry.dedupKey())) {
+            dedupIndex.remove(previous.dedupKey(), shortCode);
+        }
+        if (entry.dedupKey() != null) {
+            dedupIndex.put(entry.dedupKey(), shortCode);
+        }
+    }
+
+    private void remove(String shortCode) {
+        Entry previous = index.remove(shortCode);
+
+        if (previous != null && previous.dedupKey() != null) {
+            dedupIndex.remove(previous.dedupKey(), shortCode);
+        }
+    }
+
+    private void recover() {
+        List<Long> ids;
+
+        try {
+            Files.createDirectories(directory);
+            try (Stream<Path> files = Files.list(directory)) {
+                ids = files.filter(Segment::isSegmentFile).map(Segment::idOf).sorted().toList();
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Could not open storage directory " + directory, ex);
+        }
+
+        long now = clock.millis();
+
+        for (int position = 0; position < ids.size(); position++) {
+            boolean last = position == ids.size() - 1;
+            Segment segment = Segment.open(directory, ids.get(position), last ? segmentSize : 0);
+
+            replay(segment, last, now);
+            segments.put(segment.id(), segment);
+        }
+
+        active = segments.isEmpty() ? openSegment(1) : segments.lastEntry().getValue();
+
+        log.info("Embedded url store recovered | directory={} | segments={} | urls={}",
+                 directory.toAbsolutePath(), segments.size(), index.size());
+    }
+
+    private void replay(Segment segment, boolean last, long now) {
+        int offset = 0;
+        int length;
+
+        while ((length = UrlRecord.validLength(segment, offset)) > 0) {
+            if (UrlRecord.type(segment, offset) == UrlRecord.PUT) {
+                UrlRecord.Put put = UrlRecord.readPut(segment, offset);
+                remove(put.shortCode());
+
+                if (put.expiresAt() > now) {
+                    index(put.shortCode(), new Entry(segment, offset, length, put.expiresAt(), put.createdAt(),
+                                                     put.dedupKey(), put.clickCount()));
+                }
+            } else {
+                UrlRecord.Click click = UrlRecord.readClick(segment, offset);
+                Entry entry = index.get(click.shortCode());
+
+                if (entry != null) {
+                    index.put(click.shortCode(), entry.withClickCount(entry.clickCount() + click.delta()));
+                }
+            }
+
+            offset += length;
+        }
+
+        if (last) {
+            int garbageEnd = UrlRecord.claimedEnd(segment, offset);
+            if (offset <= segment.capacity() - Integer.BYTES && segment.getInt(offset) != 0) {
+                log.warn("Discarding torn record at end of log | segment={} | offset={}", segment.id(), offset);
+            }
+            segment.truncate(offset, garbageEnd);
+        } else {
+            segment.truncate(offset, offset);
+        }
+    }
+
+    private Segment openSegment(long id) {
+        Segment segment = Segment.open(directory, id, segmentSize);
+        segments.put(id, segment);
+        return segment;
+    }
+
+    private record Entry(Segment segment, int offset, int length, long expiresAt, long createdAt,
+                         String dedupKey, long clickCount) {
+
+        boolean isLive(long now) {
+            return expiresAt > now;
+        }
+
+        Entry withClickCount(long clickCount) {
+            return new Entry(segment, offset, length, expiresAt, createdAt, dedupKey, clickCount);
+        }
+    }
+}
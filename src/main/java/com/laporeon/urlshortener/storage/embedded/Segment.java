@@ -0,0 +1,141 @@
+package com.laporeon.urlshortener.storage.embedded;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32C;
+
+/**
+ * One memory-mapped, preallocated file of the log. Records are only ever appended by the single
+ * writer holding the store lock; readers use absolute reads and never touch the buffer position,
+ * so lookups need no locking.
+ */
+final class Segment {
+
+    private static final String FILE_PREFIX = "segment-";
+    private static final String FILE_SUFFIX = ".log";
+
+    private final long id;
+    private final Path path;
+    private final MappedByteBuffer buffer;
+
+    private int writePosition;
+
+    private Segment(long id, Path path, MappedByteBuffer buffer) {
+        this.id = id;
+        this.path = path;
+        this.buffer = buffer;
+    }
+
+    static Segment open(Path directory, long id, int capacity) {
+        Path path = directory.resolve(fileName(id));
+
+        try (FileChannel channel = FileChannel.open(path,
+                                                    StandardOpenOption.CREATE,
+                                                    StandardOpenOption.READ,
+                                                    StandardOpenOption.WRITE)) {
+            int size = (int) Math.max(channel.size(), capacity);
+            return new Segment(id, path, channel.map(FileChannel.MapMode.READ_WRITE, 0, size));
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Could not map segment " + path, ex);
+        }
+    }
+
+    static String fileName(long id) {
+        return FILE_PREFIX + "%019d".formatted(id) + FILE_SUFFIX;
+    }
+
+    static boolean isSegmentFile(Path path) {
+        String name = path.getFileName().toString();
+        return name.startsWith(FILE_PREFIX) && name.endsWith(FILE_SUFFIX);
+    }
+
+    static long idOf(Path path) {
+        String name = path.getFileName().toString();
+        return Long.parseLong(name.substring(FILE_PREFIX.length(), name.length() - FILE_SUFFIX.length()));
+    }
+
+    long id() {
+        return id;
+    }
+
+    int writePosition() {
+        return writePosition;
+    }
+
+    int capacity() {
+        return buffer.capacity();
+    }
+
+    boolean hasRoomFor(int length) {
+        return buffer.capacity() - writePosition >= length;
+    }
+
+    /**
+     * @return offset the record was written at
+     */
+    int append(ByteBuffer record) {
+        int offset = writePosition;
+        int length = record.remaining();
+
+        buffer.put(offset, record, record.position(), length);
+        writePosition = offset + length;
+
+        return offset;
+    }
+
+    /**
+     * Moves the write position back to the end of the last valid record found by recovery and zeroes
+     * the bytes a torn write left between there and {@code garbageEnd}. Anything further out is caught
+     * by the record checksum on the next recovery.
+     */
+    void truncate(int position, int garbageEnd) {
+        for (int index = position; index < Math.min(garbageEnd, buffer.capacity()); index++) {
+            buffer.put(index, (byte) 0);
+        }
+        writePosition = position;
+    }
+
+    int getInt(int offset) {
+        return buffer.getInt(offset);
+    }
+
+    long getLong(int offset) {
+        return buffer.getLong(offset);
+    }
+
+    short getShort(int offset) {
+        return buffer.getShort(offset);
+    }
+
+    byte get(int offset) {
+        return buffer.get(offset);
+    }
+
+    void get(int offset, byte[] destination) {
+        buffer.get(offset, destination);
+    }
+
+    int checksum(int offset, int length) {
+        CRC32C crc = new CRC32C();
+        crc.update(buffer.slice(offset, length));
+        return (int) crc.getValue();
+    }
+
+    void force() {
+        buffer.force();
+    }
+
+    void delete() {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Could not delete segment " + path, ex);
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package com.laporeon.urlshortener.storage.embedded;
+
+import com.laporeon.urlshortener.entities.Url;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.CRC32C;
+
+/**
+ * Binary layout of the records in a segment. Every record is a header holding the body length and
+ * its CRC32C, followed by the body:
+ * <pre>
+ * PUT   type | flags | expiresAt | createdAt | clickCount | shortCode | dedupKey | originalUrl
+ * CLICK type | delta | shortCode
+ * </pre>
+ * Strings are UTF-8 prefixed with their length; an absent dedup key has length -1. A PUT carries the
+ * absolute click count at the time it was written, CLICK records add to it. The only flag is
+ * {@link #PERMANENT}.
+ */
+final class UrlRecord {
+
+    static final int HEADER_BYTES = Integer.BYTES * 2;
+    static final byte PUT = 1;
+    static final byte CLICK = 2;
+    static final byte PERMANENT = 1;
+
+    private static final int PUT_URL_LENGTH_OFFSET = 2 + Long.BYTES * 3;
+
+    private UrlRecord() {
+    }
+
+    static ByteBuffer encodePut(Url url, long clickCount) {
+        byte[] shortCode = url.getShortCode().getBytes(StandardCharsets.UTF_8);
+        byte[] dedupKey = url.getDedupKey() == null ? null : url.getDedupKey().getBytes(StandardCharsets.UTF_8);
+        byte[] originalUrl = url.getOriginalUrl().getBytes(StandardCharsets.UTF_8);
+
+        int bodyLength = 2 + Long.BYTES * 3
+                + Short.BYTES + shortCode.length
+                + Short.BYTES + (dedupKey == null ? 0 : dedupKey.length)
+                + Integer.BYTES + originalUrl.length;
+
+        ByteBuffer record = ByteBuffer.allocate(HEADER_BYTES + bodyLength);
+        record.position(HEADER_BYTES)
+              .put(PUT)
+              .put(Boolean.TRUE.equals(url.getPermanent()) ? PERMANENT : 0)
+              .putLong(url.getExpiresAt().toEpochMilli())
+              .putLong(url.getCreatedAt().toEpochMilli())
+              .putLong(clickCount)
+              .putShort((short) shortCode.length)
+              .put(shortCode);
+
+        if (dedupKey == null) {
+            record.putShort((short) -1);
+        } else {
+            record.putShort((short) dedupKey.length).put(dedupKey);
+        }
+
+        record.putInt(originalUrl.length).put(originalUrl);
+
+        return seal(record);
+    }
+
+    static ByteBuffer encodeClick(String shortCode, long delta) {
+        byte[] code = shortCode.getBytes(StandardCharsets.UTF_8);
+
+        ByteBuffer record = ByteBuffer.allocate(HEADER_BYTES + 1 + Long.BYTES + Short.BYTES + code.length);
+        record.position(HEADER_BYTES)
+              .put(CLICK)
+              .putLong(delta)
+              .putShort((short) code.length)
+              .put(code);
+
+        return seal(record);
+    }
+
+    /**
+     * @return total length of the record at {@code offset}, or -1 if the log ends there, either
+     * because nothing was written yet or because the write was torn by a crash
+     */
+    static int validLength(Segment segment, int offset) {
+        if (offset > segment.capacity() - HEADER_BYTES) {
+            return -1;
+        }
+
+        int bodyLength = segment.getInt(offset);
+
+        if (bodyLength <= 0 || bodyLength > segment.capacity() - offset - HEADER_BYTES) {
+            return -1;
+        }
+
+        if (segment.checksum(offset + HEADER_BYTES, bodyLength) != segment.getInt(offset + Integer.BYTES)) {
+            return -1;
+        }
+
+        return HEADER_BYTES + bodyLength;
+    }
+
+    /**
+     * @return where the bytes of the record header claims end, used to clear a torn write
+     */
+    static int claimedEnd(Segment segment, int offset) {
+        if (offset > segment.capacity() - HEADER_BYTES) {
+            return segment.capacity();
+        }
+        long end = (long) offset + HEADER_BYTES + Math.max(0, segment.getInt(offset));
+        return (int) Math.min(end, segment.capacity());
+    }
+
+    static byte type(Segment segment, int offset) {
+        return segment.get(offset + HEADER_BYTES);
+    }
+
+    static Put readPut(Segment segment, int offset) {
+        boolean permanent = isPermanent(segment, offset);
+        int position = offset + HEADER_BYTES + 2;
+        long expiresAt = segment.getLong(position);
+        long createdAt = segment.getLong(position + Long.BYTES);
+        long clickCount = segment.getLong(position + Long.BYTES * 2);
+        position += Long.BYTES * 3;
+
+        String shortCode = readString(segment, position + Short.BYTES, segment.getShort(position));
+        position += Short.BYTES + segment.getShort(position);
+
+        short dedupLength = segment.getShort(position);
+        String dedupKey = dedupLength < 0 ? null : readString(segment, position + Short.BYTES, dedupLength);
+        position += Short.BYTES + Math.max(0, dedupLength);
+
+        String originalUrl = readString(segment, position + Integer.BYTES, segment.getInt(position));
+
+        return new Put(shortCode, originalUrl, dedupKey, expiresAt, createdAt, clickCount, permanent);
+    }
+
+    static Click readClick(Segment segment, int offset) {
+        int position = offset + HEADER_BYTES + 1;
+        long delta = segment.getLong(position);
+        position += Long.BYTES;
+
+        return new Click(readString(segment, position + Short.BYTES, segment.getShort(position)), delta);
+    }
+
+    /**
+     * Reads only the original url of a PUT record, skipping the other variable length fields.
+     */
+    static String readOriginalUrl(Segment segment, int offset) {
+        int position = offset + HEADER_BYTES + PUT_URL_LENGTH_OFFSET;
+        position += Short.BYTES + segment.getShort(position);
+        position += Short.BYTES + Math.max(0, segment.getShort(position));
+
+        return readString(segment, position + Integer.BYTES, segment.getInt(position));
+    }
+
+    static boolean isPermanent(Segment segment, int offset) {
+        return (segment.get(offset + HEADER_BYTES + 1) & PERMANENT) != 0;
+    }
+
+    private static String readString(Segment segment, int offset, int length) {
+        byte[] bytes = new byte[length];
+        segment.get(offset, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static ByteBuffer seal(ByteBuffer record) {
+        int bodyLength = record.position() - HEADER_BYTES;
+
+        CRC32C crc = new CRC32C();
+        crc.update(record.array(), HEADER_BYTES, bodyLength);
+
+        record.putInt(0, bodyLength)
+              .putInt(Integer.BYTES, (int) crc.getValue())
+              .flip();
+
+        return record;
+    }
+
+    record Put(String shortCode, String originalUrl, String dedupKey, long expiresAt, long createdAt, long clickCount,
+               boolean permanent) {
+    }
+
+    record Click(String shortCode, long delta) {
+    }
+}
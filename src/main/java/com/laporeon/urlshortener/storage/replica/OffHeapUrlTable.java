@@ -0,0 +1,388 @@
+package com.laporeon.urlshortener.storage.replica;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.locks.StampedLock;
+
+import static com.laporeon.urlshortener.utils.ShortCodeGenerator.CHARACTERS;
+import static com.laporeon.urlshortener.utils.ShortCodeGenerator.SHORT_CODE_LENGTH;
+
+/**
+ * Open-addressing hash table of short code to original url and expiration, held in direct buffers
+ * so that millions of mappings add nothing to the heap the garbage collector has to trace.
+ * <p>
+ * Short codes are packed into the long they encode in base62, which is both the key and its hash input.
+ * Slots are probed linearly and hold the key, the expiration and a reference into an arena of
+ * length-prefixed UTF-8 urls, whose top bit marks permanent mappings. Removed slots become tombstones
+ * and their url bytes become garbage, both reclaimed when the table is rebuilt.
+ * <p>
+ * There is a single writer. Readers go lock-free with an optimistic stamp and only take the read
+ * lock when a write raced with them.
+ */
+public class OffHeapUrlTable {
+
+    private static final int SLOT_BYTES = 24;
+    private static final int KEY = 0;
+    private static final int EXPIRES_AT = 8;
+    private static final int VALUE = 16;
+
+    private static final long EMPTY = 0;
+    private static final long TOMBSTONE = -1;
+    private static final long PERMANENT = 1L << 63;
+
+    private static final int CHUNK_BYTES = 1 << 20;
+    private static final int MAX_CAPACITY = 1 << 26;
+    private static final double MAX_LOAD = 0.7;
+    private static final byte[] DIGITS = digits();
+
+    private final StampedLock lock = new StampedLock();
+    private final int maxCapacity;
+
+    private volatile State state;
+    private int size;
+    private int tombstones;
+    private long liveBytes;
+    private long garbageBytes;
+
+    public OffHeapUrlTable(int expectedSize) {
+        this(expectedSize, MAX_CAPACITY);
+    }
+
+    OffHeapUrlTable(int expectedSize, int maxCapacity) {
+        this.maxCapacity = maxCapacity;
+        this.state = new State(capacityFor(expectedSize));
+    }
+
+    /**
+     * Packs a 7-character base62 short code into a long, or returns -1 if it is not one.
+     */
+    public static long pack(String shortCode) {
+        if (shortCode.length() != SHORT_CODE_LENGTH) {
+            return -1;
+        }
+
+        long packed = 0;
+        for (int position = 0; position < SHORT_CODE_LENGTH; position++) {
+            char c = shortCode.charAt(position);
+            int digit = c < DIGITS.length ? DIGITS[c] : -1;
+
+            if (digit < 0) {
+                return -1;
+            }
+            packed = packed * CHARACTERS.length() + digit;
+        }
+        return packed;
+    }
+
+    public Mapping get(String shortCode) {
+        long packed = pack(shortCode);
+
+        if (packed < 0) {
+            return null;
+        }
+
+        long stamp = lock.tryOptimisticRead();
+        Mapping mapping = null;
+        try {
+            mapping = find(state, packed + 1);
+        } catch (RuntimeException ex) {
+            // A concurrent write moved things underneath this read; validation below fails and it is retried.
+        }
+
+        if (lock.validate(stamp)) {
+            return mapping;
+        }
+
+        stamp = lock.readLock();
+        try {
+            return find(state, packed + 1);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Stores a mapping, replacing any previous one for the code. Codes that are not 7 base62 characters
+     * are ignored.
+     *
+     * @return false if the table is at its maximum capacity and the mapping was not stored
+     */
+    public boolean put(String shortCode, String originalUrl, long expiresAt, boolean permanent) {
+        long packed = pack(shortCode);
+
+        if (packed < 0) {
+            return true;
+        }
+
+        long stamp = lock.writeLock();
+        try {
+            if ((size + tombstones + 1) > state.capacity * MAX_LOAD && slotOf(state, packed + 1) < 0) {
+                int capacity = Math.min(maxCapacity, capacityFor(size + 1) * 2);
+
+                // Past the load limit probing would find no empty slot left and never terminate.
+                if (size + 1 > capacity * MAX_LOAD) {
+                    return false;
+                }
+                rebuild(capacity);
+            }
+            insert(state, packed + 1, originalUrl.getBytes(StandardCharsets.UTF_8), expiresAt, permanent);
+            return true;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    public void remove(String shortCode) {
+        long packed = pack(shortCode);
+
+        if (packed < 0) {
+            return;
+        }
+
+        long stamp = lock.writeLock();
+        try {
+            int slot = slotOf(state, packed + 1);
+            if (slot >= 0) {
+                clear(state, slot);
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Removes every mapping expired at {@code now} and rebuilds the table when that left it mostly garbage.
+     *
+     * @return number of mappings removed
+     */
+    public int removeExpired(long now) {
+        long stamp = lock.writeLock();
+        try {
+            State current = state;
+            int removed = 0;
+
+            for (int slot = 0; slot < current.capacity; slot++) {
+                long key = current.slots.getLong(slot * SLOT_BYTES + KEY);
+
+                if (key != EMPTY && key != TOMBSTONE && current.slots.getLong(slot * SLOT_BYTES + EXPIRES_AT) <= now) {
+                    clear(current, slot);
+                    removed++;
+                }
+            }
+
+            if (garbageBytes > liveBytes || tombstones > size) {
+                rebuild(capacityFor(size));
+            }
+
+            return removed;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public long memoryBytes() {
+        State current = state;
+        return (long) current.capacity * SLOT_BYTES + current.arenaBytes;
+    }
+
+    private Mapping find(State current, long key) {
+        int slot = slotOf(current, key);
+
+        if (slot < 0) {
+            return null;
+        }
+
+        long expiresAt = current.slots.getLong(slot * SLOT_BYTES + EXPIRES_AT);
+        long value = current.slots.getLong(slot * SLOT_BYTES + VALUE);
+
+        return new Mapping(current.readValue(value), expiresAt, (value & PERMANENT) != 0);
+    }
+
+    private int slotOf(State current, long key) {
+        int mask = current.capacity - 1;
+        int slot = hash(key) & mask;
+
+        for (int probes = 0; probes < current.capacity; probes++) {
+            long candidate = current.slots.getLong(slot * SLOT_BYTES + KEY);
+
+            if (candidate == key) {
+                return slot;
+            }
+            if (candidate == EMPTY) {
+                return -1;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    private void insert(State current, long key, byte[] value, long expiresAt, boolean permanent) {
+        int mask = current.capacity - 1;
+        int slot = hash(key) & mask;
+        int firstTombstone = -1;
+
+        while (true) {
+            long candidate = current.slots.getLong(slot * SLOT_BYTES + KEY);
+
+            if (candidate == key) {
+                garbageBytes += current.valueBytes(current.slots.getLong(slot * SLOT_BYTES + VALUE));
+                liveBytes -= current.valueBytes(current.slots.getLong(slot * SLOT_BYTES + VALUE));
+                write(current, slot, key, value, expiresAt, permanent);
+                return;
+            }
+            if (candidate == TOMBSTONE && firstTombstone < 0) {
+                firstTombstone = slot;
+            }
+            if (candidate == EMPTY) {
+                break;
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        if (firstTombstone >= 0) {
+            slot = firstTombstone;
+            tombstones--;
+        }
+
+        write(current, slot, key, value, expiresAt, permanent);
+        size++;
+    }
+
+    private void write(State current, int slot, long key, byte[] value, long expiresAt, boolean permanent) {
+        long reference = current.appendValue(value) | (permanent ? PERMANENT : 0);
+        liveBytes += Integer.BYTES + value.length;
+
+        // The key goes in last so a lock-free reader never matches a slot whose value is not written yet.
+        current.slots.putLong(slot * SLOT_BYTES + EXPIRES_AT, expiresAt);
+        current.slots.putLong(slot * SLOT_BYTES + VALUE, reference);
+        current.slots.putLong(slot * SLOT_BYTES + KEY, key);
+    }
+
+    private void clear(State current, int slot) {
+        long bytes = current.valueBytes(current.slots.getLong(slot * SLOT_BYTES + VALUE));
+        current.slots.putLong(slot * SLOT_BYTES + KEY, TOMBSTONE);
+        liveBytes -= bytes;
+        garbageBytes += bytes;
+        size--;
+        tombstones++;
+    }
+
+    private void rebuild(int capacity) {
+        State previous = state;
+        State next = new State(capacity);
+
+        size = 0;
+        tombstones = 0;
+        liveBytes = 0;
+        garbageBytes = 0;
+
+        for (int slot = 0; slot < previous.capacity; slot++) {
+            long key = previous.slots.getLong(slot * SLOT_BYTES + KEY);
+
+            if (key != EMPTY && key != TOMBSTONE) {
+                long reference = previous.slots.getLong(slot * SLOT_BYTES + VALUE);
+                insert(next, key, previous.readValueBytes(reference),
+                       previous.slots.getLong(slot * SLOT_BYTES + EXPIRES_AT), (reference & PERMANENT) != 0);
+            }
+        }
+
+        state = next;
+    }
+
+    private static int hash(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    private int capacityFor(int expectedSize) {
+        int capacity = 16;
+        while (capacity < expectedSize / MAX_LOAD && capacity < maxCapacity) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+
+    private static byte[] digits() {
+        byte[] digits = new byte[128];
+        Arrays.fill(digits, (byte) -1);
+        for (int digit = 0; digit < CHARACTERS.length(); digit++) {
+            digits[CHARACTERS.charAt(digit)] = (byte) digit;
+        }
+        return digits;
+    }
+
+    public record Mapping(String originalUrl, long expiresAt, boolean permanent) {
+    }
+
+    /**
+     * Slot array plus url arena. A rebuild creates a new state and publishes it in one volatile write.
+     */
+    private static final class State {
+
+        private final int capacity;
+        private final ByteBuffer slots;
+        private final List<ByteBuffer> chunks = new ArrayList<>();
+        private int position;
+        private volatile long arenaBytes;
+
+        private State(int capacity) {
+            this.capacity = capacity;
+            this.slots = ByteBuffer.allocateDirect(capacity * SLOT_BYTES);
+        }
+
+        private long appendValue(byte[] value) {
+            int length = Integer.BYTES + value.length;
+
+            if (chunks.isEmpty() || position + length > chunks.get(chunks.size() - 1).capacity()) {
+                chunks.add(ByteBuffer.allocateDirect(Math.max(CHUNK_BYTES, length)));
+                arenaBytes += Math.max(CHUNK_BYTES, length);
+                position = 0;
+            }
+
+            int chunk = chunks.size() - 1;
+            int offset = position;
+            ByteBuffer buffer = chunks.get(chunk);
+
+            buffer.put(offset + Integer.BYTES, value);
+            buffer.putInt(offset, value.length);
+            position += length;
+
+            return ((long) chunk << 32) | offset;
+        }
+
+        private String readValue(long reference) {
+            return new String(readValueBytes(reference), StandardCharsets.UTF_8);
+        }
+
+        private byte[] readValueBytes(long reference) {
+            ByteBuffer buffer = chunks.get(chunkOf(reference));
+            int offset = (int) reference;
+
+            int length = buffer.getInt(offset);
+
+            if (length < 0 || length > buffer.capacity() - offset - Integer.BYTES) {
+                // Only possible for an optimistic read racing a writer, which discards the result anyway.
+                throw new IllegalStateException("Torn value read at " + reference);
+            }
+
+            byte[] value = new byte[length];
+            buffer.get(offset + Integer.BYTES, value);
+            return value;
+        }
+
+        private int valueBytes(long reference) {
+            return Integer.BYTES + chunks.get(chunkOf(reference)).getInt((int) reference);
+        }
+
+        private static int chunkOf(long reference) {
+            return (int) ((reference & ~PERMANENT) >>> 32);
+        }
+    }
+}
@@ -0,0 +1,270 @@
+package com.laporeon.urlshortener.storage.replica;
+
+import com.laporeon.urlshortener.config.properties.ReplicaProperties;
+import com.laporeon.urlshortener.entities.Url;
+import com.mongodb.client.MongoChangeStreamCursor;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoCursor;
+import com.mongodb.client.model.Aggregates;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Projections;
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import com.mongodb.client.model.changestream.OperationType;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.BsonBoolean;
+import org.bson.BsonDocument;
+import org.bson.RawBsonDocument;
+import org.bson.conversions.Bson;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Complete copy of the live mappings in an {@link OffHeapUrlTable}, loaded with a bulk scan and then
+ * kept current by following a change stream on the urls collection.
+ * <p>
+ * The stream is opened before the scan, so an insert landing during the scan is either seen by the
+ * scan or buffered by the stream, and applying it twice is harmless. Delete events only carry the
+ * document id, but the only deletes are TTL removals of expired documents, which lookups already
+ * treat as gone and the periodic sweep frees. Whenever the stream fails the replica stops serving,
+ * reads go back to MongoDB, and it reconnects with a fresh scan after the retry interval.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "app.storage", name = "engine", havingValue = "mongo", matchIfMissing = true)
+@EnableConfigurationProperties(ReplicaProperties.class)
+public class UrlReplica {
+
+    private static final String SHORT_CODE_FIELD = "short_code";
+    private static final String ORIGINAL_URL_FIELD = "original_url";
+    private static final String EXPIRES_AT_FIELD = "expires_at";
+    private static final String PERMANENT_FIELD = "permanent";
+    private static final Bson SCAN_PROJECTION = Projections.fields(
+            Projections.include(SHORT_CODE_FIELD, ORIGINAL_URL_FIELD, EXPIRES_AT_FIELD, PERMANENT_FIELD),
+            Projections.excludeId());
+    // Click count updates are the bulk of the write traffic and never change a mapping, so the server drops them.
+    private static final List<Bson> STREAM_PIPELINE = List.of(
+            Aggregates.match(Filters.in("operationType", "insert", "replace", "delete")),
+            Aggregates.project(Projections.include(
+                    "operationType", "documentKey", "wallTime",
+                    "fullDocument." + SHORT_CODE_FIELD,
+                    "fullDocument." + ORIGINAL_URL_FIELD,
+                    "fullDocument." + EXPIRES_AT_FIELD,
+                    "fullDocument." + PERMANENT_FIELD)));
+
+    private final MongoTemplate mongoTemplate;
+    private final ReplicaProperties properties;
+
+    private volatile OffHeapUrlTable table;
+    private volatile boolean serving;
+    private volatile boolean running;
+    private volatile long lagMillis;
+    private volatile MongoChangeStreamCursor<?> cursor;
+    private Thread follower;
+
+    public UrlReplica(MongoTemplate mongoTemplate, ReplicaProperties properties, MeterRegistry meterRegistry) {
+        this.mongoTemplate = mongoTemplate;
+        this.properties = properties;
+
+        Gauge.builder("url.replica.size", this, r -> r.table == null ? 0 : r.table.size())
+             .register(meterRegistry);
+        Gauge.builder("url.replica.memory", this, r -> r.table == null ? 0 : r.table.memoryBytes())
+             .baseUnit("bytes")
+             .register(meterRegistry);
+        Gauge.builder("url.replica.lag", this, r -> r.lagMillis)
+             .baseUnit("milliseconds")
+             .register(meterRegistry);
+        Gauge.builder("url.replica.serving", this, r -> r.serving ? 1 : 0)
+             .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (!properties.isEnabled() || running) {
+            return;
+        }
+
+        running = true;
+        follower = Thread.ofPlatform().name("url-replica").daemon().start(this::follow);
+    }
+
+    @PreDestroy
+    public synchronized void stop() {
+        running = false;
+        serving = false;
+
+        MongoChangeStreamCursor<?> current = cursor;
+        if (current != null) {
+            current.close();
+        }
+        if (follower != null) {
+            follower.interrupt();
+        }
+    }
+
+    /**
+     * Whether the replica is complete and following the stream, so a miss means the code does not exist.
+     */
+    public boolean isServing() {
+        return serving;
+    }
+
+    public Optional<Url> find(String shortCode) {
+        OffHeapUrlTable current = table;
+        OffHeapUrlTable.Mapping mapping = current == null ? null : current.get(shortCode);
+
+        if (mapping == null) {
+            return Optional.empty();
+        }
+
+        return Optional.of(Url.builder()
+                              .shortCode(shortCode)
+                              .originalUrl(mapping.originalUrl())
+                              .expiresAt(Instant.ofEpochMilli(mapping.expiresAt()))
+                              .permanent(mapping.permanent())
+                              .build());
+    }
+
+    /**
+     * Applies a local insert right away instead of waiting for its change event, so that an instance
+     * always redirects the codes it just created.
+     */
+    public void put(Url url) {
+        OffHeapUrlTable current = table;
+
+        if (current != null && !current.put(url.getShortCode(), url.getOriginalUrl(),
+                                            url.getExpiresAt().toEpochMilli(), Boolean.TRUE.equals(url.getPermanent()))) {
+            full();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.replica.sweep-interval:5m}")
+    public void sweep() {
+        OffHeapUrlTable current = table;
+
+        if (current != null) {
+            int removed = current.removeExpired(System.currentTimeMillis());
+            log.debug("Swept url replica | removed={} | size={}", removed, current.size());
+        }
+    }
+
+    private void follow() {
+        while (running) {
+            try {
+                followOnce();
+            } catch (ReplicaFullException ex) {
+                full();
+                return;
+            } catch (RuntimeException ex) {
+                if (running) {
+                    log.warn("Url replica stream failed, reading from MongoDB until it reconnects | message={}",
+                             ex.getMessage());
+                }
+            } finally {
+                serving = false;
+                cursor = null;
+            }
+
+            if (running) {
+                try {
+                    Thread.sleep(properties.getRetryInterval());
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private void followOnce() {
+        MongoCollection<RawBsonDocument> collection = mongoTemplate.getCollection(mongoTemplate.getCollectionName(Url.class))
+                                                                   .withDocumentClass(RawBsonDocument.class);
+
+        try (MongoChangeStreamCursor<ChangeStreamDocument<RawBsonDocument>> stream =
+                     collection.watch(STREAM_PIPELINE).cursor()) {
+            cursor = stream;
+
+            OffHeapUrlTable fresh = new OffHeapUrlTable(properties.getExpectedSize());
+            load(collection, fresh);
+            table = fresh;
+            serving = true;
+
+            log.info("Url replica loaded, following change stream | size={} | memoryBytes={}",
+                     fresh.size(), fresh.memoryBytes());
+
+            while (running) {
+                ChangeStreamDocument<RawBsonDocument> event = stream.tryNext();
+
+                if (event == null) {
+                    // An empty await batch means the stream has caught up with the oplog.
+                    lagMillis = 0;
+                } else {
+                    apply(fresh, event);
+                }
+            }
+        }
+    }
+
+    private void load(MongoCollection<RawBsonDocument> collection, OffHeapUrlTable target) {
+        try (MongoCursor<RawBsonDocument> documents = collection.find(Filters.gt(EXPIRES_AT_FIELD, Instant.now()))
+                                                                .projection(SCAN_PROJECTION)
+                                                                .cursor()) {
+            while (documents.hasNext() && running) {
+                put(target, documents.next());
+            }
+        }
+    }
+
+    private void apply(OffHeapUrlTable target, ChangeStreamDocument<RawBsonDocument> event) {
+        OperationType type = event.getOperationType();
+
+        if ((type == OperationType.INSERT || type == OperationType.REPLACE) && event.getFullDocument() != null) {
+            put(target, event.getFullDocument());
+        }
+
+        if (event.getWallTime() != null) {
+            lagMillis = Math.max(0, System.currentTimeMillis() - event.getWallTime().getValue());
+        }
+    }
+
+    private static void put(OffHeapUrlTable target, BsonDocument document) {
+        boolean stored = target.put(document.getString(SHORT_CODE_FIELD).getValue(),
+                                    document.getString(ORIGINAL_URL_FIELD).getValue(),
+                                    document.getDateTime(EXPIRES_AT_FIELD).getValue(),
+                                    document.getBoolean(PERMANENT_FIELD, BsonBoolean.FALSE).getValue());
+        if (!stored) {
+            throw new ReplicaFullException();
+        }
+    }
+
+    /**
+     * A replica missing a mapping would answer not found for it, so once the table cannot take more the
+     * replica stops for good and every read goes to MongoDB. Reloading would only fill it up again.
+     */
+    private void full() {
+        if (serving || running) {
+            log.error("Url replica is full, reading from MongoDB from now on | size={}",
+                      table == null ? 0 : table.size());
+        }
+        serving = false;
+        running = false;
+    }
+
+    private static final class ReplicaFullException extends RuntimeException {
+
+        private ReplicaFullException() {
+            super("Url replica is full", null, false, false);
+        }
+    }
+}
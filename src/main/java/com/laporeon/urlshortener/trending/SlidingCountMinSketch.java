@@ -0,0 +1,98 @@
+package com.laporeon.urlshortener.trending;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Count-min sketch over a sliding window, kept as a ring of per-bucket sketches plus their running sum.
+ * Increments touch the current bucket and the sum with one atomic add per row, so recording never
+ * locks; {@link #advance} retires the oldest bucket by subtracting it from the sum and reusing it.
+ * Memory is fixed by depth, width and bucket count whatever the number of distinct keys.
+ */
+final class SlidingCountMinSketch {
+
+    private final int depth;
+    private final int width;
+    private final int mask;
+    private final AtomicIntegerArray[] buckets;
+    private final AtomicIntegerArray window;
+
+    private volatile int current;
+
+    SlidingCountMinSketch(int depth, int width, int bucketCount) {
+        if (Integer.bitCount(width) != 1) {
+            throw new IllegalArgumentException("Sketch width must be a power of two: " + width);
+        }
+
+        this.depth = depth;
+        this.width = width;
+        this.mask = width - 1;
+        this.buckets = new AtomicIntegerArray[bucketCount];
+        this.window = new AtomicIntegerArray(depth * width);
+
+        for (int bucket = 0; bucket < bucketCount; bucket++) {
+            buckets[bucket] = new AtomicIntegerArray(depth * width);
+        }
+    }
+
+    /**
+     * @return estimated count of {@code key} over the window, including this increment
+     */
+    int increment(String key) {
+        long hash = hash(key);
+        AtomicIntegerArray bucket = buckets[current];
+        int estimate = Integer.MAX_VALUE;
+
+        for (int row = 0; row < depth; row++) {
+            int index = index(hash, row);
+            bucket.incrementAndGet(index);
+            estimate = Math.min(estimate, window.incrementAndGet(index));
+        }
+
+        return estimate;
+    }
+
+    int estimate(String key) {
+        long hash = hash(key);
+        int estimate = Integer.MAX_VALUE;
+
+        for (int row = 0; row < depth; row++) {
+            estimate = Math.min(estimate, window.get(index(hash, row)));
+        }
+
+        return estimate;
+    }
+
+    /**
+     * Drops the oldest bucket from the window and makes it the current one. Called by one thread at a time.
+     */
+    void advance() {
+        int next = (current + 1) % buckets.length;
+        AtomicIntegerArray oldest = buckets[next];
+
+        for (int index = 0; index < oldest.length(); index++) {
+            int count = oldest.getAndSet(index, 0);
+            if (count != 0) {
+                window.addAndGet(index, -count);
+            }
+        }
+
+        current = next;
+    }
+
+    long memoryBytes() {
+        return (long) (buckets.length + 1) * depth * width * Integer.BYTES;
+    }
+
+    private int index(long hash, int row) {
+        // Kirsch-Mitzenmacher: row hashes derived from two halves of one 64-bit hash.
+        int combined = (int) hash + row * ((int) (hash >>> 32) | 1);
+        return row * width + (combined & mask);
+    }
+
+    private static long hash(String key) {
+        long h = key.hashCode() * 0x9E3779B97F4A7C15L;
+        h ^= h >>> 32;
+        h *= 0xD6E8FEB86659FD93L;
+        return h ^ (h >>> 32);
+    }
+}
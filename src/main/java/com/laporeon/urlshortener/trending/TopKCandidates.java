@@ -0,0 +1,137 @@
+package com.laporeon.urlshortener.trending;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.ToIntFunction;
+
+/**
+ * Bounded set of the keys with the highest estimates, split into stripes by key hash so that
+ * threads recording different keys never share a lock. Each stripe keeps its own top {@code k}
+ * in a min-heap, so the global top {@code k} is always among their union.
+ * <p>
+ * Most offers return without locking: the key is below the stripe's admission floor, or already
+ * held with a score close to the new estimate. Scores of held keys are refreshed on every
+ * {@link #rescore}, which also lets keys that cooled down make room.
+ */
+final class TopKCandidates {
+
+    private final Stripe[] stripes;
+    private final int stripeMask;
+
+    TopKCandidates(int k, int stripeCount) {
+        if (Integer.bitCount(stripeCount) != 1) {
+            throw new IllegalArgumentException("Stripe count must be a power of two: " + stripeCount);
+        }
+
+        this.stripes = new Stripe[stripeCount];
+        this.stripeMask = stripeCount - 1;
+
+        for (int stripe = 0; stripe < stripeCount; stripe++) {
+            stripes[stripe] = new Stripe(k);
+        }
+    }
+
+    void offer(String key, int estimate) {
+        int hash = key.hashCode();
+        stripes[(hash ^ (hash >>> 16)) & stripeMask].offer(key, estimate);
+    }
+
+    void rescore(ToIntFunction<String> estimator) {
+        for (Stripe stripe : stripes) {
+            stripe.rescore(estimator);
+        }
+    }
+
+    List<String> keys() {
+        List<String> keys = new ArrayList<>();
+        for (Stripe stripe : stripes) {
+            keys.addAll(stripe.entries.keySet());
+        }
+        return keys;
+    }
+
+    private static final class Stripe {
+
+        private final int capacity;
+        private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+        private final PriorityQueue<Entry> heap = new PriorityQueue<>(Comparator.comparingInt(entry -> entry.score));
+
+        private volatile int floor;
+
+        private Stripe(int capacity) {
+            this.capacity = capacity;
+        }
+
+        private void offer(String key, int estimate) {
+            if (estimate <= floor) {
+                return;
+            }
+
+            Entry held = entries.get(key);
+            if (held != null && estimate - held.score <= held.score >>> 4) {
+                return;
+            }
+
+            synchronized (this) {
+                held = entries.get(key);
+
+                if (held != null) {
+                    if (estimate > held.score) {
+                        heap.remove(held);
+                        held.score = estimate;
+                        heap.add(held);
+                    }
+                } else if (heap.size() < capacity) {
+                    add(key, estimate);
+                } else if (estimate > heap.peek().score) {
+                    entries.remove(heap.poll().key);
+                    add(key, estimate);
+                }
+
+                updateFloor();
+            }
+        }
+
+        private synchronized void rescore(ToIntFunction<String> estimator) {
+            List<Entry> held = new ArrayList<>(heap);
+            heap.clear();
+
+            for (Entry entry : held) {
+                entry.score = estimator.applyAsInt(entry.key);
+
+                if (entry.score > 0) {
+                    heap.add(entry);
+                } else {
+                    entries.remove(entry.key);
+                }
+            }
+
+            updateFloor();
+        }
+
+        private void add(String key, int estimate) {
+            Entry entry = new Entry(key, estimate);
+            entries.put(key, entry);
+            heap.add(entry);
+        }
+
+        private void updateFloor() {
+            floor = heap.size() < capacity ? 0 : heap.peek().score;
+        }
+    }
+
+    private static final class Entry {
+
+        private final String key;
+        private volatile int score;
+
+        private Entry(String key, int score) {
+            this.key = key;
+            this.score = score;
+        }
+    }
+}
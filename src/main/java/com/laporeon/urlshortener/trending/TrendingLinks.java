@@ -0,0 +1,130 @@
+package com.laporeon.urlshortener.trending;
+
+import com.laporeon.urlshortener.config.properties.TrendingProperties;
+import com.laporeon.urlshortener.dtos.response.TrendingLinkDTO;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+/**
+ * Tracks which short codes are being clicked the most right now, entirely in memory. Every click
+ * increments a sliding count-min sketch per {@link TrendingWindow} and offers the code to that
+ * window's top-K candidates; reading the top links re-estimates the candidates against the sketch.
+ * Counts are estimates that can only be too high, by a small fraction of the window's total clicks.
+ */
+@Component
+@EnableConfigurationProperties(TrendingProperties.class)
+public class TrendingLinks {
+
+    private static final int STRIPES = 16;
+
+    private final boolean enabled;
+    private final LongSupplier nanoClock;
+    private final Map<TrendingWindow, Tracker> trackers = new EnumMap<>(TrendingWindow.class);
+
+    @Autowired
+    public TrendingLinks(TrendingProperties properties, MeterRegistry meterRegistry) {
+        this(properties, meterRegistry, System::nanoTime);
+    }
+
+    TrendingLinks(TrendingProperties properties, MeterRegistry meterRegistry, LongSupplier nanoClock) {
+        this.enabled = properties.isEnabled();
+        this.nanoClock = nanoClock;
+
+        if (!enabled) {
+            return;
+        }
+
+        long now = nanoClock.getAsLong();
+        for (TrendingWindow window : TrendingWindow.values()) {
+            trackers.put(window, new Tracker(
+                    new SlidingCountMinSketch(properties.getDepth(), properties.getWidth(), window.getBuckets()),
+                    new TopKCandidates(properties.getSize(), STRIPES),
+                    properties.getSize(),
+                    window.getBucketLength().toNanos(),
+                    now + window.getBucketLength().toNanos()));
+        }
+
+        Gauge.builder("url.trending.memory", trackers,
+                      t -> t.values().stream().mapToLong(tracker -> tracker.sketch.memoryBytes()).sum())
+             .baseUnit("bytes")
+             .register(meterRegistry);
+    }
+
+    public void record(String shortCode) {
+        if (!enabled) {
+            return;
+        }
+
+        for (Tracker tracker : trackers.values()) {
+            tracker.candidates.offer(shortCode, tracker.sketch.increment(shortCode));
+        }
+    }
+
+    /**
+     * @return up to {@code limit} links with the highest estimated clicks over {@code window}, highest first
+     */
+    public List<TrendingLinkDTO> top(TrendingWindow window, int limit) {
+        Tracker tracker = trackers.get(window);
+
+        if (tracker == null) {
+            return List.of();
+        }
+
+        return tracker.candidates.keys().stream()
+                                 .map(code -> new TrendingLinkDTO(code, tracker.sketch.estimate(code)))
+                                 .filter(link -> link.estimatedClicks() > 0)
+                                 .sorted(Comparator.comparingLong(TrendingLinkDTO::estimatedClicks).reversed())
+                                 .limit(Math.min(limit, tracker.size))
+                                 .toList();
+    }
+
+    /**
+     * Slides every window whose current bucket is over.
+     */
+    @Scheduled(fixedRate = 1000)
+    public synchronized void advance() {
+        long now = nanoClock.getAsLong();
+
+        for (Tracker tracker : trackers.values()) {
+            boolean advanced = false;
+
+            while (now - tracker.nextAdvanceAt >= 0) {
+                tracker.sketch.advance();
+                tracker.nextAdvanceAt += tracker.bucketNanos;
+                advanced = true;
+            }
+
+            if (advanced) {
+                tracker.candidates.rescore(tracker.sketch::estimate);
+            }
+        }
+    }
+
+    private static final class Tracker {
+
+        private final SlidingCountMinSketch sketch;
+        private final TopKCandidates candidates;
+        private final int size;
+        private final long bucketNanos;
+        private long nextAdvanceAt;
+
+        private Tracker(SlidingCountMinSketch sketch, TopKCandidates candidates, int size, long bucketNanos,
+                        long nextAdvanceAt) {
+            this.sketch = sketch;
+            this.candidates = candidates;
+            this.size = size;
+            this.bucketNanos = bucketNanos;
+            this.nextAdvanceAt = nextAdvanceAt;
+        }
+    }
+}
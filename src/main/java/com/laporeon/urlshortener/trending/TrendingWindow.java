@@ -0,0 +1,34 @@
+package com.laporeon.urlshortener.trending;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+/**
+ * Windows trending links are reported over. Each slides in steps of {@code length / buckets}.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum TrendingWindow {
+
+    ONE_MINUTE("1m", Duration.ofMinutes(1), 6),
+    FIFTEEN_MINUTES("15m", Duration.ofMinutes(15), 15),
+    ONE_HOUR("1h", Duration.ofHours(1), 12);
+
+    private final String label;
+    private final Duration length;
+    private final int buckets;
+
+    public Duration getBucketLength() {
+        return length.dividedBy(buckets);
+    }
+
+    public static TrendingWindow fromLabel(String label) {
+        return Arrays.stream(values())
+                     .filter(window -> window.label.equals(label))
+                     .findFirst()
+                     .orElseThrow(() -> new IllegalArgumentException("Unknown trending window: " + label));
+    }
+}
@@ -1,8 +1,10 @@
 package com.laporeon.urlshortener.utils;
 
 import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.server.reactive.ServerHttpRequest;
 import org.springframework.stereotype.Component;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+import org.springframework.web.util.UriComponentsBuilder;
 
 @Component
 public class BaseUrlGenerator {
@@ -14,4 +16,13 @@ public class BaseUrlGenerator {
                 .build()
                 .toUriString();
     }
+
+    public String generateBaseUrl(ServerHttpRequest request) {
+        return UriComponentsBuilder
+                .fromUri(request.getURI())
+                .replacePath(null)
+                .replaceQuery(null)
+                .build()
+                .toUriString();
+    }
 }
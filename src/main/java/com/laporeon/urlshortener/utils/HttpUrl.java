@@ -0,0 +1,158 @@
+package com.laporeon.urlshortener.utils;
+
+import java.net.IDN;
+import java.util.Locale;
+
+/**
+ * An absolute {@code http} or {@code https} URL as accepted by the API: a host of at least two dot
+ * separated labels, an optional port and an optional path starting with {@code /}. Query and fragment
+ * are part of the path here and kept verbatim.
+ * <p>
+ * {@link #parse} reads the input once from left to right and never backtracks, so its cost is linear
+ * in the length of the URL whatever the input looks like.
+ */
+public record HttpUrl(String scheme, String host, int port, String path) {
+
+    private static final int MAX_LABEL_LENGTH = 63;
+    private static final int MAX_HOST_LENGTH = 253;
+    private static final int MAX_PORT = 65535;
+
+    /**
+     * @return the parsed URL with scheme and host lowercased, international hosts converted to their
+     * ASCII form and a default port dropped, or null if {@code url} is not a valid URL
+     */
+    public static HttpUrl parse(String url) {
+        int length = url.length();
+        int index = schemeLength(url);
+
+        if (index < 0) {
+            return null;
+        }
+
+        String scheme = url.substring(0, index).toLowerCase(Locale.ROOT);
+        index += 3;
+
+        int hostStart = index;
+        int labelStart = index;
+        int labels = 0;
+        boolean ascii = true;
+
+        for (; index < length; index++) {
+            char c = url.charAt(index);
+
+            if (c == '.') {
+                if (index == labelStart || index - labelStart > MAX_LABEL_LENGTH) {
+                    return null;
+                }
+                labels++;
+                labelStart = index + 1;
+            } else if (c == ':' || c == '/') {
+                break;
+            } else if (c < 0x80) {
+                if (!isAsciiLabelChar(c)) {
+                    return null;
+                }
+            } else if (Character.isLetterOrDigit(c) || Character.isSurrogate(c) || Character.getType(c) == Character.NON_SPACING_MARK) {
+                ascii = false;
+            } else {
+                return null;
+            }
+        }
+
+        if (index == labelStart || index - labelStart > MAX_LABEL_LENGTH || labels == 0) {
+            return null;
+        }
+
+        String host = host(url.substring(hostStart, index), ascii);
+
+        if (host == null) {
+            return null;
+        }
+
+        int port = -1;
+
+        if (index < length && url.charAt(index) == ':') {
+            int portStart = ++index;
+            port = 0;
+
+            for (; index < length && url.charAt(index) != '/'; index++) {
+                char c = url.charAt(index);
+
+                if (c < '0' || c > '9' || index - portStart >= 5) {
+                    return null;
+                }
+                port = port * 10 + (c - '0');
+            }
+
+            if (index == portStart || port == 0 || port > MAX_PORT) {
+                return null;
+            }
+            if (isDefaultPort(scheme, port)) {
+                port = -1;
+            }
+        }
+
+        for (int pathIndex = index; pathIndex < length; pathIndex++) {
+            char c = url.charAt(pathIndex);
+
+            if (c <= ' ' || c == 0x7F) {
+                return null;
+            }
+        }
+
+        return new HttpUrl(scheme, host, port, index == length ? "/" : url.substring(index));
+    }
+
+    public static boolean isValid(String url) {
+        return parse(url) != null;
+    }
+
+    /**
+     * @return the URL in normalized form, e.g. {@code HTTPS://Example.COM:443} becomes {@code https://example.com/}
+     */
+    @Override
+    public String toString() {
+        StringBuilder url = new StringBuilder(scheme.length() + host.length() + path.length() + 9)
+                .append(scheme).append("://").append(host);
+
+        if (port != -1) {
+            url.append(':').append(port);
+        }
+
+        return url.append(path).toString();
+    }
+
+    /**
+     * @return length of the scheme if {@code url} starts with {@code http://} or {@code https://} in any case, otherwise -1
+     */
+    private static int schemeLength(String url) {
+        if (!url.regionMatches(true, 0, "http", 0, 4)) {
+            return -1;
+        }
+
+        int length = url.length() > 4 && (url.charAt(4) == 's' || url.charAt(4) == 'S') ? 5 : 4;
+
+        return url.startsWith("://", length) ? length : -1;
+    }
+
+    private static String host(String host, boolean ascii) {
+        if (ascii) {
+            return host.length() > MAX_HOST_LENGTH ? null : host.toLowerCase(Locale.ROOT);
+        }
+
+        try {
+            String converted = IDN.toASCII(host).toLowerCase(Locale.ROOT);
+            return converted.length() > MAX_HOST_LENGTH ? null : converted;
+        } catch (IllegalArgumentException ex) {
+            return null;
+        }
+    }
+
+    private static boolean isAsciiLabelChar(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '-' || c == '_';
+    }
+
+    private static boolean isDefaultPort(String scheme, int port) {
+        return (port == 80 && scheme.equals("http")) || (port == 443 && scheme.equals("https"));
+    }
+}
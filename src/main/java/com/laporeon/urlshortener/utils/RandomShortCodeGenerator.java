@@ -0,0 +1,23 @@
+package com.laporeon.urlshortener.utils;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.security.SecureRandom;
+
+@Component
+@ConditionalOnProperty(prefix = "app.short-code", name = "generator", havingValue = "random", matchIfMissing = true)
+public class RandomShortCodeGenerator implements ShortCodeGenerator {
+
+    private SecureRandom secureRandom = new SecureRandom();
+
+    @Override
+    public String generateShortCode() {
+        StringBuilder stringBuilder = new StringBuilder(SHORT_CODE_LENGTH);
+        for (int counter = 0; counter < SHORT_CODE_LENGTH; counter++) {
+            int index = secureRandom.nextInt(CHARACTERS.length());
+            stringBuilder.append(CHARACTERS.charAt(index));
+        }
+        return stringBuilder.toString();
+    }
+}
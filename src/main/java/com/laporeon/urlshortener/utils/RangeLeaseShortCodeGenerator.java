@@ -0,0 +1,88 @@
+package com.laporeon.urlshortener.utils;
+
+import com.laporeon.urlshortener.config.properties.ShortCodeProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+/**
+ * Hands out codes from blocks of numeric ids leased from a counter document.
+ * Every lease is a single atomic {@code $inc}, so concurrent instances always receive disjoint
+ * blocks, and ids left over when an instance stops are simply never used.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "app.short-code", name = "generator", havingValue = "range")
+@EnableConfigurationProperties(ShortCodeProperties.class)
+public class RangeLeaseShortCodeGenerator implements ShortCodeGenerator {
+
+    private static final String COUNTERS_COLLECTION = "counters";
+    private static final String SEQUENCE_FIELD = "seq";
+
+    private final MongoTemplate mongoTemplate;
+    private final ShortCodeCipher cipher;
+    private final String counterName;
+    private final long blockSize;
+
+    private volatile Block block;
+
+    public RangeLeaseShortCodeGenerator(MongoTemplate mongoTemplate, ShortCodeProperties properties) {
+        this.mongoTemplate = mongoTemplate;
+        this.cipher = new ShortCodeCipher(properties.getLease().getScrambleKey());
+        this.counterName = properties.getLease().getCounterName();
+        this.blockSize = properties.getLease().getBlockSize();
+    }
+
+    @Override
+    public String generateShortCode() {
+        while (true) {
+            Block current = block;
+
+            if (current != null) {
+                long id = current.next().getAndIncrement();
+                if (id < current.end()) {
+                    return cipher.encode(id);
+                }
+            }
+
+            renew(current);
+        }
+    }
+
+    private synchronized void renew(Block exhausted) {
+        if (block != exhausted) {
+            return;
+        }
+
+        Document counter = mongoTemplate.findAndModify(
+                query(where("_id").is(counterName)),
+                new Update().inc(SEQUENCE_FIELD, blockSize),
+                FindAndModifyOptions.options().upsert(true).returnNew(true),
+                Document.class,
+                COUNTERS_COLLECTION);
+
+        long end = ((Number) counter.get(SEQUENCE_FIELD)).longValue();
+        long start = end - blockSize;
+
+        if (end > ShortCodeCipher.CODE_SPACE) {
+            throw new IllegalStateException("Short code space exhausted for counter " + counterName);
+        }
+
+        log.debug("Leased short code id block | counter={} | start={} | end={}", counterName, start, end);
+
+        block = new Block(new AtomicLong(start), end);
+    }
+
+    private record Block(AtomicLong next, long end) {
+    }
+}
@@ -0,0 +1,84 @@
+package com.laporeon.urlshortener.utils;
+
+import com.laporeon.urlshortener.config.properties.RedirectProperties;
+import com.laporeon.urlshortener.entities.Url;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+import java.time.Clock;
+import java.time.Duration;
+
+/**
+ * Builds the redirect response for a mapping. The status is 302 Found unless the mapping was created
+ * as permanent, and {@code Cache-Control: max-age} lets browsers and CDNs replay the redirect for at
+ * most the whole seconds left before the mapping expires, so a cached redirect never outlives it.
+ */
+@Component
+@EnableConfigurationProperties(RedirectProperties.class)
+public class RedirectPolicy {
+
+    private final RedirectProperties properties;
+    private final Clock clock;
+
+    @Autowired
+    public RedirectPolicy(RedirectProperties properties) {
+        this(properties, Clock.systemUTC());
+    }
+
+    RedirectPolicy(RedirectProperties properties, Clock clock) {
+        if (properties.getPermanentStatus() != HttpStatus.MOVED_PERMANENTLY
+                && properties.getPermanentStatus() != HttpStatus.PERMANENT_REDIRECT) {
+            throw new IllegalArgumentException("app.redirect.permanent-status must be MOVED_PERMANENTLY or PERMANENT_REDIRECT");
+        }
+
+        this.properties = properties;
+        this.clock = clock;
+    }
+
+    public ResponseEntity<Void> redirect(Url url) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.status(status(url))
+                                                            .location(URI.create(url.getOriginalUrl()));
+        String cacheControl = cacheControl(url);
+
+        if (cacheControl != null) {
+            response.header(HttpHeaders.CACHE_CONTROL, cacheControl);
+        }
+
+        return response.build();
+    }
+
+    public HttpStatus status(Url url) {
+        return isPermanent(url) ? properties.getPermanentStatus() : HttpStatus.FOUND;
+    }
+
+    /**
+     * @return the {@code Cache-Control} value for a redirect to {@code url}, or null if none is sent
+     */
+    public String cacheControl(Url url) {
+        Duration maxAge = isPermanent(url) ? properties.getPermanentMaxAge() : properties.getMaxAge();
+
+        if (maxAge.isZero()) {
+            return null;
+        }
+
+        long remainingSeconds = Duration.between(clock.instant(), url.getExpiresAt()).toSeconds();
+
+        if (remainingSeconds <= 0) {
+            return CacheControl.noStore().getHeaderValue();
+        }
+
+        return CacheControl.maxAge(Duration.ofSeconds(Math.min(remainingSeconds, maxAge.toSeconds())))
+                           .cachePublic()
+                           .getHeaderValue();
+    }
+
+    private static boolean isPermanent(Url url) {
+        return Boolean.TRUE.equals(url.getPermanent());
+    }
+}
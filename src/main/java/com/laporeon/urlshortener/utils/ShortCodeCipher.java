@@ -0,0 +1,104 @@
+package com.laporeon.urlshortener.utils;
+
+import java.nio.charset.StandardCharsets;
+
+import static com.laporeon.urlshortener.utils.ShortCodeGenerator.CHARACTERS;
+import static com.laporeon.urlshortener.utils.ShortCodeGenerator.SHORT_CODE_LENGTH;
+
+/**
+ * Reversible mapping between sequential numeric ids and 7-character base62 short codes.
+ * Ids are scrambled with a keyed Feistel network over 42 bits, cycle-walked back into the
+ * 62^7 code space, so consecutive ids produce unrelated-looking codes without ever colliding.
+ */
+public class ShortCodeCipher {
+
+    public static final long CODE_SPACE = pow(CHARACTERS.length(), SHORT_CODE_LENGTH);
+
+    private static final int HALF_BITS = 21;
+    private static final long HALF_MASK = (1L << HALF_BITS) - 1;
+    private static final int ROUNDS = 4;
+
+    private final long[] roundKeys = new long[ROUNDS];
+
+    public ShortCodeCipher(String key) {
+        long seed = 0x9E3779B97F4A7C15L;
+        for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            seed = mix(seed ^ b);
+        }
+        for (int round = 0; round < ROUNDS; round++) {
+            seed = mix(seed + round);
+            roundKeys[round] = seed;
+        }
+    }
+
+    public String encode(long id) {
+        if (id < 0 || id >= CODE_SPACE) {
+            throw new IllegalArgumentException("Id %d is outside the short code space".formatted(id));
+        }
+
+        long value = id;
+        do {
+            value = encrypt(value);
+        } while (value >= CODE_SPACE);
+
+        char[] code = new char[SHORT_CODE_LENGTH];
+        for (int position = SHORT_CODE_LENGTH - 1; position >= 0; position--) {
+            code[position] = CHARACTERS.charAt((int) (value % CHARACTERS.length()));
+            value /= CHARACTERS.length();
+        }
+        return new String(code);
+    }
+
+    public long decode(String shortCode) {
+        long value = 0;
+        for (int position = 0; position < shortCode.length(); position++) {
+            int digit = CHARACTERS.indexOf(shortCode.charAt(position));
+            if (digit < 0) {
+                throw new IllegalArgumentException("Invalid short code character in " + shortCode);
+            }
+            value = value * CHARACTERS.length() + digit;
+        }
+
+        do {
+            value = decrypt(value);
+        } while (value >= CODE_SPACE);
+
+        return value;
+    }
+
+    private long encrypt(long value) {
+        long left = (value >>> HALF_BITS) & HALF_MASK;
+        long right = value & HALF_MASK;
+        for (int round = 0; round < ROUNDS; round++) {
+            long next = left ^ (mix(right ^ roundKeys[round]) & HALF_MASK);
+            left = right;
+            right = next;
+        }
+        return (left << HALF_BITS) | right;
+    }
+
+    private long decrypt(long value) {
+        long left = (value >>> HALF_BITS) & HALF_MASK;
+        long right = value & HALF_MASK;
+        for (int round = ROUNDS - 1; round >= 0; round--) {
+            long previous = right ^ (mix(left ^ roundKeys[round]) & HALF_MASK);
+            right = left;
+            left = previous;
+        }
+        return (left << HALF_BITS) | right;
+    }
+
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    private static long pow(int base, int exponent) {
+        long result = 1;
+        for (int i = 0; i < exponent; i++) {
+            result *= base;
+        }
+        return result;
+    }
+}
@@ -1,22 +1,9 @@
 package com.laporeon.urlshortener.utils;
 
-import org.springframework.stereotype.Component;
+public interface ShortCodeGenerator {
 
-import java.security.SecureRandom;
+    String CHARACTERS = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789";
+    int SHORT_CODE_LENGTH = 7;
 
-@Component
-public class ShortCodeGenerator {
-
-    private SecureRandom secureRandom = new SecureRandom();
-    private static final String CHARACTERS = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789";
-    private static final int SHORT_CODE_LENGTH = 7;
-
-    public String generateShortCode() {
-        StringBuilder stringBuilder = new StringBuilder(SHORT_CODE_LENGTH);
-        for (int counter = 0; counter < SHORT_CODE_LENGTH; counter++) {
-            int index = secureRandom.nextInt(CHARACTERS.length());
-            stringBuilder.append(CHARACTERS.charAt(index));
-        }
-        return stringBuilder.toString();
-    }
+    String generateShortCode();
 }
@@ -5,7 +5,8 @@ public class SwaggerExamples {
     public static final String CREATE_SHORT_URL_REQUEST = """
             {
                 "originalUrl": "https://www.google.com/",
-                "expirationDate": "2025-10-29"
+                "expirationDate": "2025-10-29",
+                "permanent": false
             }
             """;
 
@@ -16,6 +17,31 @@ public class SwaggerExamples {
             }
             """;
 
+    public static final String CREATE_SHORT_URL_BATCH_REQUEST = """
+            [
+                {
+                    "originalUrl": "https://www.google.com/",
+                    "expirationDate": "2025-10-29"
+                },
+                {
+                    "originalUrl": "https://www.youtube.com/"
+                }
+            ]
+            """;
+
+    public static final String SHORTEN_URL_BATCH_SUCCESS_RESPONSE = """
+            [
+                {
+                    "shortUrl": "https://localhost:8080/v2esjMb",
+                    "expiresAt": "2025-10-29T14:27:34.238168440Z"
+                },
+                {
+                    "shortUrl": "https://localhost:8080/Q8kd2Lx",
+                    "expiresAt": "2025-10-29T14:27:34.238168440Z"
+                }
+            ]
+            """;
+
     public static final String VALIDATION_ERROR_RESPONSE = """
             {
                 "status": 400,
@@ -35,6 +61,21 @@ public class SwaggerExamples {
             }
             """;
 
+    public static final String BATCH_VALIDATION_ERROR_RESPONSE = """
+            {
+                "status": 400,
+                "type": "VALIDATION_ERROR",
+                "message": "Request validation failed for one or more fields",
+                "errors": [
+                  {
+                    "field": "[1].originalUrl",
+                    "message": "Invalid URL format. Please provide a valid URL (e.g., https://example.com)."
+                  }
+                ],
+                "timestamp": "2025-10-29T15:19:52.121160501Z"
+            }
+            """;
+
     public static final String NOT_FOUND_ERROR_RESPONSE = """
             {
                 "status": 404,
@@ -52,4 +93,15 @@ public class SwaggerExamples {
                 "timestamp": "2025-10-29T15:19:52.121160501Z"
             }
             """;
+
+    public static final String TRENDING_LINKS_RESPONSE = """
+            {
+                "window": "15m",
+                "timestamp": "2025-10-29T15:19:52.121160501Z",
+                "links": [
+                    { "shortCode": "v2esjMb", "estimatedClicks": 1843 },
+                    { "shortCode": "a1b2c3d", "estimatedClicks": 977 }
+                ]
+            }
+            """;
 }
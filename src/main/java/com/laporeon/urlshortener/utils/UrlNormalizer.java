@@ -0,0 +1,44 @@
+package com.laporeon.urlshortener.utils;
+
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Base64;
+
+/**
+ * Reduces URLs to a canonical form so that trivially different spellings of the same target
+ * share one fingerprint. Only changes that cannot alter the target are applied: scheme and host
+ * case, international hosts in their ASCII form, default ports and an empty path. Query and fragment
+ * are kept as they are.
+ */
+@Component
+public class UrlNormalizer {
+
+    private static final int FINGERPRINT_BYTES = 16;
+
+    /**
+     * @return the normalized form given by {@link HttpUrl}, or {@code url} unchanged if it does not parse
+     */
+    public String normalize(String url) {
+        HttpUrl parsed = HttpUrl.parse(url);
+        return parsed == null ? url : parsed.toString();
+    }
+
+    /**
+     * Truncated SHA-256 of the normalized URL, as 22 URL-safe base64 characters.
+     */
+    public String fingerprint(String url) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                                         .digest(normalize(url).getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder()
+                         .withoutPadding()
+                         .encodeToString(Arrays.copyOf(digest, FINGERPRINT_BYTES));
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.laporeon.urlshortener.validation;
+
+import jakarta.validation.Constraint;
+import jakarta.validation.Payload;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * The annotated string must be an absolute {@code http} or {@code https} URL, as parsed by
+ * {@link com.laporeon.urlshortener.utils.HttpUrl}. {@code null} is considered valid.
+ */
+@Documented
+@Constraint(validatedBy = ValidUrlValidator.class)
+@Target({ElementType.FIELD, ElementType.PARAMETER, ElementType.RECORD_COMPONENT, ElementType.TYPE_USE})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ValidUrl {
+
+    String message() default "Invalid URL format. Please provide a valid URL (e.g., https://example.com).";
+
+    Class<?>[] groups() default {};
+
+    Class<? extends Payload>[] payload() default {};
+}
@@ -0,0 +1,13 @@
+package com.laporeon.urlshortener.validation;
+
+import com.laporeon.urlshortener.utils.HttpUrl;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+
+public class ValidUrlValidator implements ConstraintValidator<ValidUrl, String> {
+
+    @Override
+    public boolean isValid(String value, ConstraintValidatorContext context) {
+        return value == null || HttpUrl.isValid(value);
+    }
+}
@@ -0,0 +1,66 @@
+package com.laporeon.urlshortener.admission;
+
+import com.laporeon.urlshortener.config.properties.AdmissionProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("AdaptiveConcurrencyLimiter Tests")
+public class AdaptiveConcurrencyLimiterTest {
+
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(5);
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(50);
+
+    @Test
+    @DisplayName("Should reject requests beyond the current limit")
+    void shouldRejectRequestsBeyondCurrentLimit() {
+        AdaptiveConcurrencyLimiter limiter = limiter(2);
+
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isFalse();
+
+        limiter.release(-1);
+
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.getInflight()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should grow the limit while latency is steady and shrink it when latency climbs")
+    void shouldGrowLimitWhileLatencyIsSteadyAndShrinkItWhenLatencyClimbs() {
+        AdaptiveConcurrencyLimiter limiter = limiter(10);
+
+        saturateAndRelease(limiter, FAST, 20);
+        int grown = limiter.getLimit();
+
+        saturateAndRelease(limiter, SLOW, 1);
+
+        assertThat(grown).isGreaterThan(10);
+        assertThat(limiter.getLimit()).isLessThan(grown).isGreaterThanOrEqualTo(4);
+    }
+
+    private static void saturateAndRelease(AdaptiveConcurrencyLimiter limiter, long rttNanos, int rounds) {
+        for (int round = 0; round < rounds; round++) {
+            int acquired = 0;
+            while (limiter.tryAcquire()) {
+                acquired++;
+            }
+            for (int request = 0; request < acquired; request++) {
+                limiter.release(rttNanos);
+            }
+        }
+    }
+
+    private static AdaptiveConcurrencyLimiter limiter(int initialLimit) {
+        AdmissionProperties.Concurrency properties = new AdmissionProperties.Concurrency();
+        properties.setInitialLimit(initialLimit);
+        properties.setWindow(100);
+
+        return new AdaptiveConcurrencyLimiter(properties, new SimpleMeterRegistry());
+    }
+}
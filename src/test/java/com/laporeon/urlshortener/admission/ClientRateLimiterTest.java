@@ -0,0 +1,79 @@
+package com.laporeon.urlshortener.admission;
+
+import com.laporeon.urlshortener.config.properties.AdmissionProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ClientRateLimiter Tests")
+public class ClientRateLimiterTest {
+
+    private final AtomicLong now = new AtomicLong(TimeUnit.HOURS.toNanos(1));
+
+    @Test
+    @DisplayName("Should admit a burst, then hold each client to the refill rate")
+    void shouldAdmitBurstThenHoldEachClientToRefillRate() {
+        ClientRateLimiter limiter = limiter(3, 2);
+
+        for (int request = 0; request < 3; request++) {
+            assertThat(limiter.tryAcquire("10.0.0.1")).isZero();
+        }
+        assertThat(limiter.tryAcquire("10.0.0.1")).isEqualTo(TimeUnit.MILLISECONDS.toNanos(500));
+        assertThat(limiter.tryAcquire("10.0.0.2")).isZero();
+
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(500));
+
+        assertThat(limiter.tryAcquire("10.0.0.1")).isZero();
+        assertThat(limiter.tryAcquire("10.0.0.1")).isPositive();
+        assertThat(limiter.rejectedCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should forget clients whose bucket has refilled")
+    void shouldForgetClientsWhoseBucketHasRefilled() {
+        ClientRateLimiter limiter = limiter(3, 2);
+        limiter.tryAcquire("10.0.0.1");
+        limiter.tryAcquire("10.0.0.2");
+        limiter.tryAcquire("10.0.0.2");
+
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(750));
+        limiter.cleanup();
+
+        assertThat(limiter.trackedClients()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should evict the buckets closest to full when over capacity and keep limiting the others")
+    void shouldEvictBucketsClosestToFullWhenOverCapacity() {
+        ClientRateLimiter limiter = limiter(3, 2, 2);
+        for (int request = 0; request < 3; request++) {
+            limiter.tryAcquire("10.0.0.1");
+        }
+        limiter.tryAcquire("spoofed-1");
+        limiter.tryAcquire("spoofed-2");
+        limiter.tryAcquire("spoofed-3");
+
+        limiter.cleanup();
+
+        assertThat(limiter.trackedClients()).isEqualTo(1);
+        assertThat(limiter.tryAcquire("10.0.0.1")).isPositive();
+    }
+
+    private ClientRateLimiter limiter(int burst, double refillRate) {
+        return limiter(burst, refillRate, 100_000);
+    }
+
+    private ClientRateLimiter limiter(int burst, double refillRate, int maxClients) {
+        AdmissionProperties.RateLimit properties = new AdmissionProperties.RateLimit();
+        properties.setBurst(burst);
+        properties.setRefillRate(refillRate);
+        properties.setMaxClients(maxClients);
+
+        return new ClientRateLimiter(properties, new SimpleMeterRegistry(), now::get);
+    }
+}
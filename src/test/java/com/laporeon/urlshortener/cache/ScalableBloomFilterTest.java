@@ -0,0 +1,44 @@
+package com.laporeon.urlshortener.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ScalableBloomFilter Tests")
+public class ScalableBloomFilterTest {
+
+    @Test
+    @DisplayName("Should never report an added code as absent, even after growing")
+    void shouldNeverReportAnAddedCodeAsAbsent() {
+        ScalableBloomFilter filter = new ScalableBloomFilter(1_000, 0.01);
+
+        for (int i = 0; i < 10_000; i++) {
+            filter.add("c%06d".formatted(i));
+        }
+
+        for (int i = 0; i < 10_000; i++) {
+            assertThat(filter.mightContain("c%06d".formatted(i))).isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("Should keep the false positive rate close to the configured one after growing")
+    void shouldKeepFalsePositiveRateCloseToConfiguredOne() {
+        ScalableBloomFilter filter = new ScalableBloomFilter(1_000, 0.01);
+
+        for (int i = 0; i < 10_000; i++) {
+            filter.add("c%06d".formatted(i));
+        }
+
+        int falsePositives = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (filter.mightContain("x%06d".formatted(i))) {
+                falsePositives++;
+            }
+        }
+
+        assertThat(falsePositives / 100_000.0).isLessThan(0.02);
+        assertThat(filter.expectedFalsePositiveRate()).isLessThan(0.02);
+    }
+}
@@ -0,0 +1,63 @@
+package com.laporeon.urlshortener.controllers;
+
+import com.laporeon.urlshortener.logging.AccessLog;
+import com.laporeon.urlshortener.trending.TrendingLinks;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+@WebFluxTest(TrendingController.class)
+@DisplayName("ReactiveTrendingController Tests")
+public class ReactiveTrendingControllerTest {
+
+    private static final String VALIDATION_ERROR_TYPE = "VALIDATION_ERROR";
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @MockitoBean
+    private TrendingLinks trendingLinks;
+
+    @MockitoBean
+    private AccessLog accessLog;
+
+    @Test
+    @DisplayName("GET /trending - Should return 400 when given an unknown window")
+    void shouldReturn400WhenGivenAnUnknownWindow() {
+        webTestClient.get()
+                     .uri("/trending?window=2h")
+                     .exchange()
+                     .expectStatus().isBadRequest()
+                     .expectBody()
+                     .jsonPath("$.type").isEqualTo(VALIDATION_ERROR_TYPE)
+                     .jsonPath("$.errors[0].field").isEqualTo("window");
+    }
+
+    @Test
+    @DisplayName("GET /trending - Should return 400 when given a limit out of range")
+    void shouldReturn400WhenGivenALimitOutOfRange() {
+        webTestClient.get()
+                     .uri("/trending?limit=101")
+                     .exchange()
+                     .expectStatus().isBadRequest()
+                     .expectBody()
+                     .jsonPath("$.type").isEqualTo(VALIDATION_ERROR_TYPE)
+                     .jsonPath("$.errors[0].message").isEqualTo("Limit must be between 1 and 100.");
+    }
+
+    @Test
+    @DisplayName("GET /trending - Should return 400 when given a non-numeric limit")
+    void shouldReturn400WhenGivenANonNumericLimit() {
+        webTestClient.get()
+                     .uri("/trending?limit=abc")
+                     .exchange()
+                     .expectStatus().isBadRequest()
+                     .expectBody()
+                     .jsonPath("$.type").isEqualTo(VALIDATION_ERROR_TYPE)
+                     .jsonPath("$.errors[0].field").isEqualTo("limit")
+                     .jsonPath("$.errors[0].message").isEqualTo("Invalid value 'abc'.");
+    }
+}
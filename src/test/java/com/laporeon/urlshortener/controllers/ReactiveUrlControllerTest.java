@@ -0,0 +1,133 @@
+package com.laporeon.urlshortener.controllers;
+
+import com.laporeon.urlshortener.dtos.request.UrlRequestDTO;
+import com.laporeon.urlshortener.dtos.response.UrlResponseDTO;
+import com.laporeon.urlshortener.entities.Url;
+import com.laporeon.urlshortener.exceptions.ShortCodeNotFoundException;
+import com.laporeon.urlshortener.logging.AccessLog;
+import com.laporeon.urlshortener.services.ClickCountService;
+import com.laporeon.urlshortener.services.ReactiveUrlService;
+import com.laporeon.urlshortener.utils.RedirectPolicy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@WebFluxTest(ReactiveUrlController.class)
+@Import(RedirectPolicy.class)
+@DisplayName("ReactiveUrlController Tests")
+public class ReactiveUrlControllerTest {
+
+    private static final String VALID_ORIGINAL_URL = "https://www.youtube.com/";
+    private static final String VALID_SHORT_CODE = "a1b2c3d";
+    private static final String INVALID_URL_MESSAGE = "Invalid URL format. Please provide a valid URL (e.g., https://example.com).";
+    private static final String VALIDATION_ERROR_TYPE = "VALIDATION_ERROR";
+    private static final String NOT_FOUND_ERROR_TYPE = "NOT_FOUND_ERROR";
+    private static final String NOT_FOUND_ERROR_MESSAGE = "Short code %s does not exist or has expired.";
+    private static final String SHORTEN_URL_ENDPOINT = "/shorten";
+    private static final String BASE_URL = "https://localhost:8080";
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @MockitoBean
+    private ReactiveUrlService urlService;
+
+    @MockitoBean
+    private ClickCountService clickCountService;
+
+    @MockitoBean
+    private AccessLog accessLog;
+
+    private Url mockedUrlEntity;
+
+    @BeforeEach
+    void setUp() {
+        mockedUrlEntity = Url.builder()
+                             .shortCode(VALID_SHORT_CODE)
+                             .originalUrl(VALID_ORIGINAL_URL)
+                             .expiresAt(Instant.now().plus(5, ChronoUnit.DAYS))
+                             .build();
+    }
+
+    @Test
+    @DisplayName("POST /shorten - Should return 201 when given valid request data")
+    void shouldReturnCreatedWhenGivenValidRequestData() {
+        UrlResponseDTO response = new UrlResponseDTO(BASE_URL + "/" + VALID_SHORT_CODE, mockedUrlEntity.getExpiresAt());
+
+        when(urlService.shortenUrl(any(UrlRequestDTO.class), any(ServerHttpRequest.class))).thenReturn(Mono.just(response));
+
+        webTestClient.post()
+                     .uri(SHORTEN_URL_ENDPOINT)
+                     .contentType(MediaType.APPLICATION_JSON)
+                     .bodyValue(new UrlRequestDTO(VALID_ORIGINAL_URL, LocalDate.now().plusDays(5)))
+                     .exchange()
+                     .expectStatus().isCreated()
+                     .expectBody()
+                     .jsonPath("$.shortUrl").isEqualTo(response.shortUrl())
+                     .jsonPath("$.expiresAt").exists();
+    }
+
+    @Test
+    @DisplayName("POST /shorten - Should return 400 when given invalid URL format")
+    void shouldReturn400WhenGivenInvalidUrlFormat() {
+        webTestClient.post()
+                     .uri(SHORTEN_URL_ENDPOINT)
+                     .contentType(MediaType.APPLICATION_JSON)
+                     .bodyValue(new UrlRequestDTO("invalidurl", null))
+                     .exchange()
+                     .expectStatus().isBadRequest()
+                     .expectBody()
+                     .jsonPath("$.type").isEqualTo(VALIDATION_ERROR_TYPE)
+                     .jsonPath("$.errors[0].message").isEqualTo(INVALID_URL_MESSAGE);
+    }
+
+    @Test
+    @DisplayName("GET /{shortCode} - Should return 302 when given existing short code")
+    void shouldReturn302WhenGivenExistingShortCode() {
+        when(urlService.findByShortCode(VALID_SHORT_CODE)).thenReturn(Mono.just(mockedUrlEntity));
+
+        webTestClient.get()
+                     .uri("/" + VALID_SHORT_CODE)
+                     .exchange()
+                     .expectStatus().isFound()
+                     .expectHeader().valueEquals("Location", VALID_ORIGINAL_URL);
+
+        verify(clickCountService).record(VALID_SHORT_CODE);
+    }
+
+    @Test
+    @DisplayName("GET /{shortCode} - Should return 404 when given expired or non existent short code")
+    void shouldReturn404WhenGivenExpiredOrNonExistingShortCode() {
+        String expiredShortCode = "expired";
+
+        when(urlService.findByShortCode(expiredShortCode))
+                .thenReturn(Mono.error(new ShortCodeNotFoundException(expiredShortCode)));
+
+        webTestClient.get()
+                     .uri("/" + expiredShortCode)
+                     .exchange()
+                     .expectStatus().isNotFound()
+                     .expectBody()
+                     .jsonPath("$.type").isEqualTo(NOT_FOUND_ERROR_TYPE)
+                     .jsonPath("$.message").isEqualTo(NOT_FOUND_ERROR_MESSAGE.formatted(expiredShortCode));
+
+        verify(clickCountService, never()).record(any());
+    }
+}
@@ -0,0 +1,120 @@
+package com.laporeon.urlshortener.controllers;
+
+import com.laporeon.urlshortener.entities.Url;
+import com.laporeon.urlshortener.exceptions.ShortCodeNotFoundException;
+import com.laporeon.urlshortener.logging.AccessLog;
+import com.laporeon.urlshortener.metrics.UrlMetrics;
+import com.laporeon.urlshortener.services.ClickCountService;
+import com.laporeon.urlshortener.services.UrlService;
+import com.laporeon.urlshortener.utils.RedirectPolicy;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(controllers = UrlController.class,
+            properties = {"app.admission.enabled=false", "app.redirect.fast-path=true"})
+@Import(RedirectPolicy.class)
+@DisplayName("RedirectFastPathFilter Tests")
+public class RedirectFastPathFilterTest {
+
+    private static final String VALID_SHORT_CODE = "a1b2c3d";
+    private static final String VALID_ORIGINAL_URL = "https://www.youtube.com/";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private UrlService urlService;
+
+    @MockitoBean
+    private ClickCountService clickCountService;
+
+    @MockitoBean
+    private AccessLog accessLog;
+
+    @MockitoBean
+    private UrlMetrics urlMetrics;
+
+    @Test
+    @DisplayName("GET /{shortCode} - Should redirect without reaching the dispatcher")
+    void shouldRedirectWithoutReachingTheDispatcher() throws Exception {
+        when(urlService.findByShortCode(VALID_SHORT_CODE)).thenReturn(Url.builder()
+                                                                         .shortCode(VALID_SHORT_CODE)
+                                                                         .originalUrl(VALID_ORIGINAL_URL)
+                                                                         .expiresAt(Instant.now().plus(5, ChronoUnit.DAYS))
+                                                                         .build());
+
+        MvcResult result = mockMvc.perform(get("/" + VALID_SHORT_CODE))
+                                  .andExpect(status().isFound())
+                                  .andExpect(header().string(HttpHeaders.LOCATION, VALID_ORIGINAL_URL))
+                                  .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=3600, public"))
+                                  .andReturn();
+
+        assertThat(result.getHandler()).isNull();
+        verify(clickCountService).record(VALID_SHORT_CODE);
+        verify(accessLog).redirect(VALID_SHORT_CODE, 302);
+    }
+
+    @Test
+    @DisplayName("GET /{shortCode} - Should return the same 404 body as the controller")
+    void shouldReturnTheSame404BodyAsTheController() throws Exception {
+        when(urlService.findByShortCode(VALID_SHORT_CODE)).thenThrow(new ShortCodeNotFoundException(VALID_SHORT_CODE));
+
+        MvcResult fastPath = mockMvc.perform(get("/" + VALID_SHORT_CODE)).andReturn();
+        // Cross-origin requests are left to Spring MVC for CORS handling, which makes them take the controller path.
+        MvcResult controller = mockMvc.perform(get("/" + VALID_SHORT_CODE).header(HttpHeaders.ORIGIN, "https://example.com"))
+                                      .andReturn();
+
+        assertThat(fastPath.getHandler()).isNull();
+        assertThat(controller.getHandler()).isNotNull();
+        assertThat(fastPath.getResponse().getStatus()).isEqualTo(404).isEqualTo(controller.getResponse().getStatus());
+        assertThat(fastPath.getResponse().getContentType()).isEqualTo(controller.getResponse().getContentType());
+        assertThat(withoutTimestamp(fastPath)).isEqualTo(withoutTimestamp(controller));
+    }
+
+    @Test
+    @DisplayName("GET /{shortCode} - Should return the same 500 body as the controller for an unusable stored url")
+    void shouldReturnTheSame500BodyAsTheControllerForAnUnusableStoredUrl() throws Exception {
+        when(urlService.findByShortCode(VALID_SHORT_CODE)).thenReturn(Url.builder()
+                                                                         .shortCode(VALID_SHORT_CODE)
+                                                                         .originalUrl("https://example.com/a b")
+                                                                         .expiresAt(Instant.now().plus(5, ChronoUnit.DAYS))
+                                                                         .build());
+
+        MvcResult fastPath = mockMvc.perform(get("/" + VALID_SHORT_CODE)).andReturn();
+        MvcResult controller = mockMvc.perform(get("/" + VALID_SHORT_CODE).header(HttpHeaders.ORIGIN, "https://example.com"))
+                                      .andReturn();
+
+        assertThat(fastPath.getHandler()).isNull();
+        assertThat(fastPath.getResponse().getStatus()).isEqualTo(500).isEqualTo(controller.getResponse().getStatus());
+        assertThat(withoutTimestamp(fastPath)).isEqualTo(withoutTimestamp(controller));
+    }
+
+    @Test
+    @DisplayName("Should pass other paths on to Spring MVC")
+    void shouldPassOtherPathsOnToSpringMvc() throws Exception {
+        MvcResult result = mockMvc.perform(get("/")).andExpect(status().isOk()).andReturn();
+
+        assertThat(result.getHandler()).isNotNull();
+    }
+
+    private static String withoutTimestamp(MvcResult result) throws Exception {
+        return result.getResponse().getContentAsString().replaceAll("\"timestamp\":\"[^\"]*\"", "");
+    }
+}
@@ -0,0 +1,88 @@
+package com.laporeon.urlshortener.controllers;
+
+import com.laporeon.urlshortener.logging.AccessLog;
+import com.laporeon.urlshortener.metrics.UrlMetrics;
+import com.laporeon.urlshortener.trending.TrendingLinks;
+import com.laporeon.urlshortener.trending.TrendingWindow;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(controllers = TrendingController.class, properties = "app.admission.enabled=false")
+@DisplayName("TrendingController Tests")
+public class TrendingControllerTest {
+
+    private static final String TRENDING_ENDPOINT = "/trending";
+    private static final String VALIDATION_ERROR_TYPE = "VALIDATION_ERROR";
+    private static final String LIMIT_OUT_OF_RANGE_MESSAGE = "Limit must be between 1 and 100.";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private TrendingLinks trendingLinks;
+
+    @MockitoBean
+    private AccessLog accessLog;
+
+    @MockitoBean
+    private UrlMetrics urlMetrics;
+
+    @Test
+    @DisplayName("GET /trending - Should return 200 with the top links of the requested window")
+    void shouldReturn200WithTheTopLinks() throws Exception {
+        when(trendingLinks.top(TrendingWindow.fromLabel("15m"), 5)).thenReturn(List.of());
+
+        mockMvc.perform(get(TRENDING_ENDPOINT).param("window", "15m").param("limit", "5"))
+               .andExpect(status().isOk())
+               .andExpect(jsonPath("$.window").value("15m"))
+               .andExpect(jsonPath("$.links").isArray());
+    }
+
+    @Test
+    @DisplayName("GET /trending - Should return 400 when given an unknown window")
+    void shouldReturn400WhenGivenAnUnknownWindow() throws Exception {
+        mockMvc.perform(get(TRENDING_ENDPOINT).param("window", "2h"))
+               .andExpect(status().isBadRequest())
+               .andExpect(jsonPath("$.type").value(VALIDATION_ERROR_TYPE))
+               .andExpect(jsonPath("$.errors[0].field").value("window"))
+               .andExpect(jsonPath("$.errors[0].message").value("Window must be one of 1m, 15m or 1h."));
+
+        verify(trendingLinks, never()).top(any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("GET /trending - Should return 400 when given a limit out of range")
+    void shouldReturn400WhenGivenALimitOutOfRange() throws Exception {
+        mockMvc.perform(get(TRENDING_ENDPOINT).param("limit", "0"))
+               .andExpect(status().isBadRequest())
+               .andExpect(jsonPath("$.type").value(VALIDATION_ERROR_TYPE))
+               .andExpect(jsonPath("$.errors[0].field").value("limit"))
+               .andExpect(jsonPath("$.errors[0].message").value(LIMIT_OUT_OF_RANGE_MESSAGE));
+    }
+
+    @Test
+    @DisplayName("GET /trending - Should return 400 when given a non-numeric limit")
+    void shouldReturn400WhenGivenANonNumericLimit() throws Exception {
+        mockMvc.perform(get(TRENDING_ENDPOINT).param("limit", "abc"))
+               .andExpect(status().isBadRequest())
+               .andExpect(jsonPath("$.type").value(VALIDATION_ERROR_TYPE))
+               .andExpect(jsonPath("$.errors[0].field").value("limit"))
+               .andExpect(jsonPath("$.errors[0].message").value("Invalid value 'abc'."));
+
+        verify(urlMetrics).recordValidationError();
+    }
+}
@@ -6,13 +6,18 @@ import com.laporeon.urlshortener.dtos.response.ApiMetadataDTO;
 import com.laporeon.urlshortener.dtos.response.UrlResponseDTO;
 import com.laporeon.urlshortener.entities.Url;
 import com.laporeon.urlshortener.exceptions.ShortCodeNotFoundException;
+import com.laporeon.urlshortener.logging.AccessLog;
+import com.laporeon.urlshortener.metrics.UrlMetrics;
+import com.laporeon.urlshortener.services.ClickCountService;
 import com.laporeon.urlshortener.services.UrlService;
+import com.laporeon.urlshortener.utils.RedirectPolicy;
 import jakarta.servlet.http.HttpServletRequest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
@@ -20,15 +25,21 @@ import org.springframework.test.web.servlet.MockMvc;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
+import java.util.List;
 
 import static org.hamcrest.Matchers.hasValue;
+import static org.hamcrest.Matchers.matchesPattern;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
-@WebMvcTest(UrlController.class)
+@WebMvcTest(controllers = UrlController.class, properties = "app.admission.enabled=false")
+@Import(RedirectPolicy.class)
 @DisplayName("UrlController Tests")
 public class UrlControllerTest {
 
@@ -41,6 +52,7 @@ public class UrlControllerTest {
     private static final String NOT_FOUND_ERROR_TYPE =  "NOT_FOUND_ERROR";
     private static final String NOT_FOUND_ERROR_MESSAGE =  "Short code %s does not exist or has expired.";
     private static final String SHORTEN_URL_ENDPOINT = "/shorten";
+    private static final String SHORTEN_BATCH_ENDPOINT = "/shorten/batch";
     private static final String BASE_URL = "https://localhost:8080";
 
     private static final String API_NAME = "URL Shortener API";
@@ -56,6 +68,15 @@ public class UrlControllerTest {
     @MockitoBean
     private UrlService urlService;
 
+    @MockitoBean
+    private ClickCountService clickCountService;
+
+    @MockitoBean
+    private AccessLog accessLog;
+
+    @MockitoBean
+    private UrlMetrics urlMetrics;
+
     private Url mockedUrlEntity;
 
     private UrlResponseDTO mockedUrlResponseDTO;
@@ -110,6 +131,8 @@ public class UrlControllerTest {
                .andExpect(jsonPath("$.message").value(VALIDATION_ERROR_MESSAGE))
                .andExpect(jsonPath("$.errors").isArray())
                .andExpect(jsonPath("$.errors[0].message").value(INVALID_URL_MESSAGE));
+
+        verify(urlMetrics).recordValidationError();
     }
 
     @Test
@@ -129,6 +152,55 @@ public class UrlControllerTest {
     }
 
 
+    @Test
+    @DisplayName("POST /shorten/batch - Should return 201 with one short URL per item")
+    void shouldReturnCreatedWithOneShortUrlPerItem() throws Exception {
+        List<UrlRequestDTO> validRequest = List.of(
+                new UrlRequestDTO(VALID_ORIGINAL_URL, LocalDate.now().plusDays(5)),
+                new UrlRequestDTO(VALID_ORIGINAL_URL, null));
+
+        when(urlService.shortenUrls(anyList(), any(HttpServletRequest.class)))
+                .thenReturn(List.of(mockedUrlResponseDTO, mockedUrlResponseDTO));
+
+        mockMvc.perform(post(SHORTEN_BATCH_ENDPOINT)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(validRequest)))
+               .andExpect(status().isCreated())
+               .andExpect(jsonPath("$").isArray())
+               .andExpect(jsonPath("$.length()").value(2))
+               .andExpect(jsonPath("$[1].shortUrl").value(mockedUrlResponseDTO.shortUrl()));
+    }
+
+    @Test
+    @DisplayName("POST /shorten/batch - Should return 400 with the index of each invalid item")
+    void shouldReturn400WithTheIndexOfEachInvalidItem() throws Exception {
+        List<UrlRequestDTO> invalidRequest = List.of(
+                new UrlRequestDTO(VALID_ORIGINAL_URL, null),
+                new UrlRequestDTO("invalidurl", null));
+
+        mockMvc.perform(post(SHORTEN_BATCH_ENDPOINT)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(invalidRequest)))
+               .andExpect(status().isBadRequest())
+               .andExpect(jsonPath("$.type").value(VALIDATION_ERROR_TYPE))
+               .andExpect(jsonPath("$.message").value(VALIDATION_ERROR_MESSAGE))
+               .andExpect(jsonPath("$.errors[0].field").value("[1].originalUrl"))
+               .andExpect(jsonPath("$.errors[0].message").value(INVALID_URL_MESSAGE));
+
+        verify(urlService, never()).shortenUrls(anyList(), any(HttpServletRequest.class));
+    }
+
+    @Test
+    @DisplayName("POST /shorten/batch - Should return 400 when given an empty batch")
+    void shouldReturn400WhenGivenAnEmptyBatch() throws Exception {
+        mockMvc.perform(post(SHORTEN_BATCH_ENDPOINT)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("[]"))
+               .andExpect(status().isBadRequest())
+               .andExpect(jsonPath("$.type").value(VALIDATION_ERROR_TYPE))
+               .andExpect(jsonPath("$.errors[0].field").value("urls"));
+    }
+
     @Test
     @DisplayName("GET /{shortCode} - Should return 302 when given existing short code")
     void shouldReturn302WhenGivenExistingShortCode() throws Exception {
@@ -136,7 +208,26 @@ public class UrlControllerTest {
 
         mockMvc.perform(get("/" + VALID_SHORT_CODE))
                .andExpect(status().isFound())
-               .andExpect(header().string("Location", mockedUrlEntity.getOriginalUrl()));
+               .andExpect(header().string("Location", mockedUrlEntity.getOriginalUrl()))
+               .andExpect(header().string("Cache-Control", "max-age=3600, public"));
+
+        verify(clickCountService).record(VALID_SHORT_CODE);
+        verify(accessLog).redirect(VALID_SHORT_CODE, 302);
+    }
+
+    @Test
+    @DisplayName("GET /{shortCode} - Should return 301 cacheable until expiry when short code is permanent")
+    void shouldReturn301CacheableUntilExpiryWhenShortCodeIsPermanent() throws Exception {
+        mockedUrlEntity.setPermanent(true);
+        mockedUrlEntity.setExpiresAt(Instant.now().plus(90, ChronoUnit.MINUTES));
+        when(urlService.findByShortCode(VALID_SHORT_CODE)).thenReturn(mockedUrlEntity);
+
+        mockMvc.perform(get("/" + VALID_SHORT_CODE))
+               .andExpect(status().isMovedPermanently())
+               .andExpect(header().string("Location", mockedUrlEntity.getOriginalUrl()))
+               .andExpect(header().string("Cache-Control", matchesPattern("max-age=5[34]\\d\\d, public")));
+
+        verify(accessLog).redirect(VALID_SHORT_CODE, 301);
     }
 
     @Test
@@ -151,6 +242,8 @@ public class UrlControllerTest {
                .andExpect(status().isNotFound())
                .andExpect(jsonPath("$.type").value(NOT_FOUND_ERROR_TYPE))
                .andExpect(jsonPath("$.message").value(NOT_FOUND_ERROR_MESSAGE.formatted(expiredShortCode)));
+
+        verify(clickCountService, never()).record(any());
     }
 
     @Test
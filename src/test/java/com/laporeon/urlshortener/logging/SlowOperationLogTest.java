@@ -0,0 +1,37 @@
+package com.laporeon.urlshortener.logging;
+
+import org.bson.BsonDocument;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("SlowOperationLog Tests")
+public class SlowOperationLogTest {
+
+    @Test
+    @DisplayName("Should keep field names and operators but mask every value")
+    void shouldMaskEveryValue() {
+        BsonDocument find = BsonDocument.parse("""
+                {find: "urls", filter: {short_code: "a1b2c3d", expires_at: {$gt: {$date: 0}}, tags: {$in: ["a", "b"]}},
+                 limit: 1, lsid: {id: 1}, $db: "urlshortenerdb"}
+                """);
+
+        assertThat(SlowOperationLog.shapeOf(find)).isEqualTo(
+                "{find: \"urls\", filter: {short_code: ?, expires_at: {$gt: ?}, tags: {$in: [?]}}, limit: ?}");
+    }
+
+    @Test
+    @DisplayName("Should fold runs of identically shaped documents in batched writes")
+    void shouldFoldIdenticallyShapedDocuments() {
+        StringBuilder documents = new StringBuilder();
+        for (int index = 0; index < 20; index++) {
+            documents.append(index == 0 ? "" : ", ").append("{short_code: \"code").append(index).append("\"}");
+        }
+
+        BsonDocument insert = BsonDocument.parse("{insert: \"urls\", ordered: false, documents: [" + documents + "]}");
+
+        assertThat(SlowOperationLog.shapeOf(insert)).isEqualTo(
+                "{insert: \"urls\", ordered: ?, documents: [{short_code: ?} x8, ... 20 total]}");
+    }
+}
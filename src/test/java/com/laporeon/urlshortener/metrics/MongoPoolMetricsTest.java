@@ -0,0 +1,60 @@
+package com.laporeon.urlshortener.metrics;
+
+import com.mongodb.ServerAddress;
+import com.mongodb.connection.ClusterId;
+import com.mongodb.connection.ConnectionId;
+import com.mongodb.connection.ConnectionPoolSettings;
+import com.mongodb.connection.ServerId;
+import com.mongodb.event.ConnectionCheckOutFailedEvent;
+import com.mongodb.event.ConnectionCheckedInEvent;
+import com.mongodb.event.ConnectionCheckedOutEvent;
+import com.mongodb.event.ConnectionPoolClosedEvent;
+import com.mongodb.event.ConnectionPoolCreatedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("MongoPoolMetrics Tests")
+public class MongoPoolMetricsTest {
+
+    private static final ServerId SERVER_ID = new ServerId(new ClusterId(), new ServerAddress("mongo1", 27017));
+    private static final ConnectionId CONNECTION_ID = new ConnectionId(SERVER_ID);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final MongoPoolMetrics poolMetrics = new MongoPoolMetrics(meterRegistry);
+
+    @Test
+    @DisplayName("Should record checkout waits by outcome and how much of the pool is in use")
+    void shouldRecordCheckoutWaitsAndSaturation() {
+        poolMetrics.connectionPoolCreated(new ConnectionPoolCreatedEvent(
+                SERVER_ID, ConnectionPoolSettings.builder().maxSize(4).build()));
+
+        poolMetrics.connectionCheckedOut(new ConnectionCheckedOutEvent(CONNECTION_ID, 1, TimeUnit.MILLISECONDS.toNanos(3)));
+        poolMetrics.connectionCheckedOut(new ConnectionCheckedOutEvent(CONNECTION_ID, 2, TimeUnit.MILLISECONDS.toNanos(5)));
+        poolMetrics.connectionCheckedIn(new ConnectionCheckedInEvent(CONNECTION_ID, 1));
+        poolMetrics.connectionCheckOutFailed(new ConnectionCheckOutFailedEvent(
+                SERVER_ID, 3, ConnectionCheckOutFailedEvent.Reason.TIMEOUT, TimeUnit.SECONDS.toNanos(2)));
+
+        assertThat(meterRegistry.get("mongodb.driver.pool.saturation").gauge().value()).isEqualTo(0.25);
+        assertThat(meterRegistry.get("mongodb.driver.pool.checkout").tag("outcome", "success").timer().count())
+                .isEqualTo(2);
+        assertThat(meterRegistry.get("mongodb.driver.pool.checkout").tag("outcome", "timeout").timer()
+                                .totalTime(TimeUnit.SECONDS)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should remove a pool's meters when it closes")
+    void shouldRemoveMetersWhenThePoolCloses() {
+        poolMetrics.connectionPoolCreated(new ConnectionPoolCreatedEvent(SERVER_ID, ConnectionPoolSettings.builder().build()));
+        poolMetrics.connectionCheckedOut(new ConnectionCheckedOutEvent(CONNECTION_ID, 1, 1_000));
+
+        poolMetrics.connectionPoolClosed(new ConnectionPoolClosedEvent(SERVER_ID));
+
+        assertThat(meterRegistry.find("mongodb.driver.pool.saturation").gauge()).isNull();
+        assertThat(meterRegistry.find("mongodb.driver.pool.checkout").timer()).isNull();
+    }
+}
@@ -0,0 +1,77 @@
+package com.laporeon.urlshortener.resilience;
+
+import com.laporeon.urlshortener.config.properties.ResilienceProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("CircuitBreaker Tests")
+public class CircuitBreakerTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private final CircuitBreaker circuitBreaker = new CircuitBreaker(properties(), clock::get);
+
+    @Test
+    @DisplayName("Should open once the failure rate reaches the threshold and refuse calls while open")
+    void shouldOpenOnceTheFailureRateReachesTheThreshold() {
+        circuitBreaker.onSuccess();
+        circuitBreaker.onSuccess();
+        circuitBreaker.onFailure();
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+
+        circuitBreaker.onFailure();
+
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(circuitBreaker.tryAcquirePermission()).isFalse();
+        assertThat(circuitBreaker.remainingOpenNanos()).isEqualTo(Duration.ofSeconds(10).toNanos());
+    }
+
+    @Test
+    @DisplayName("Should let a limited number of trial calls through after the open duration")
+    void shouldLetTrialCallsThroughAfterTheOpenDuration() {
+        trip();
+        clock.addAndGet(Duration.ofSeconds(10).toNanos());
+
+        assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+        assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+        assertThat(circuitBreaker.tryAcquirePermission()).isFalse();
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+
+        circuitBreaker.onSuccess();
+        circuitBreaker.onSuccess();
+
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(circuitBreaker.failureRate()).isEqualTo(-1);
+    }
+
+    @Test
+    @DisplayName("Should open again when a trial call fails")
+    void shouldOpenAgainWhenATrialCallFails() {
+        trip();
+        clock.addAndGet(Duration.ofSeconds(10).toNanos());
+
+        assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+        circuitBreaker.onFailure();
+
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(circuitBreaker.tryAcquirePermission()).isFalse();
+    }
+
+    private void trip() {
+        for (int call = 0; call < 4; call++) {
+            circuitBreaker.onFailure();
+        }
+    }
+
+    private static ResilienceProperties.CircuitBreaker properties() {
+        ResilienceProperties.CircuitBreaker properties = new ResilienceProperties.CircuitBreaker();
+        properties.setSlidingWindowSize(4);
+        properties.setMinimumCalls(4);
+        properties.setHalfOpenCalls(2);
+        return properties;
+    }
+}
@@ -0,0 +1,124 @@
+package com.laporeon.urlshortener.resilience;
+
+import com.laporeon.urlshortener.config.properties.ResilienceProperties;
+import com.laporeon.urlshortener.entities.Url;
+import com.laporeon.urlshortener.exceptions.StorageUnavailableException;
+import com.laporeon.urlshortener.storage.UrlStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@DisplayName("RedirectLookup Tests")
+public class RedirectLookupTest {
+
+    private static final String SHORT_CODE = "a1b2c3d";
+    private static final Url URL = Url.builder()
+                                      .shortCode(SHORT_CODE)
+                                      .originalUrl("https://example.com")
+                                      .expiresAt(Instant.now().plus(1, ChronoUnit.DAYS))
+                                      .build();
+
+    private final UrlStore urlStore = mock(UrlStore.class);
+    private RedirectLookup redirectLookup;
+
+    @AfterEach
+    void tearDown() {
+        redirectLookup.stop();
+    }
+
+    @Test
+    @DisplayName("Should serve last known good mappings once the breaker opens and fail fast for the rest")
+    void shouldServeLastKnownGoodMappingsOnceTheBreakerOpens() {
+        redirectLookup = redirectLookup(Duration.ofSeconds(1));
+
+        when(urlStore.findRedirectTarget(SHORT_CODE)).thenReturn(Optional.of(URL));
+        assertThat(redirectLookup.find(SHORT_CODE)).contains(URL);
+
+        when(urlStore.findRedirectTarget(anyString())).thenThrow(new DataAccessResourceFailureException("down"));
+        for (int call = 0; call < 4; call++) {
+            assertThat(redirectLookup.find(SHORT_CODE)).contains(URL);
+        }
+        assertThat(redirectLookup.circuitState()).isEqualTo(CircuitBreaker.State.OPEN);
+
+        clearInvocations(urlStore);
+        assertThat(redirectLookup.find(SHORT_CODE)).contains(URL);
+        assertThatThrownBy(() -> redirectLookup.find("zzzzzzz"))
+                .isInstanceOf(StorageUnavailableException.class)
+                .satisfies(ex -> assertThat(((StorageUnavailableException) ex).getRetryAfterSeconds()).isEqualTo(10));
+
+        verifyNoInteractions(urlStore);
+        assertThat(redirectLookup.staleServedCount()).isEqualTo(5);
+        assertThat(redirectLookup.unavailableCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should stop waiting for a hung store at the timeout and keep its bulkhead slot until it returns")
+    void shouldStopWaitingForAHungStoreAtTheTimeout() {
+        CountDownLatch release = new CountDownLatch(1);
+        redirectLookup = redirectLookup(Duration.ofMillis(50));
+
+        when(urlStore.findRedirectTarget(SHORT_CODE)).thenAnswer(invocation -> {
+            release.await();
+            return Optional.of(URL);
+        });
+
+        long start = System.nanoTime();
+        assertThatThrownBy(() -> redirectLookup.find(SHORT_CODE)).isInstanceOf(StorageUnavailableException.class);
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(1));
+        assertThat(redirectLookup.bulkheadAvailable()).isEqualTo(1);
+
+        release.countDown();
+    }
+
+    @Test
+    @DisplayName("Should report a lookup abandoned by an interrupt to the breaker")
+    void shouldReportAnInterruptedLookupToTheBreaker() {
+        CountDownLatch release = new CountDownLatch(1);
+        redirectLookup = redirectLookup(Duration.ofSeconds(1), 4);
+
+        when(urlStore.findRedirectTarget(SHORT_CODE)).thenAnswer(invocation -> {
+            release.await();
+            return Optional.of(URL);
+        });
+
+        try {
+            for (int call = 0; call < 4; call++) {
+                Thread.currentThread().interrupt();
+                try {
+                    assertThatThrownBy(() -> redirectLookup.find(SHORT_CODE)).isInstanceOf(StorageUnavailableException.class);
+                } finally {
+                    Thread.interrupted();
+                }
+            }
+
+            assertThat(redirectLookup.circuitState()).isEqualTo(CircuitBreaker.State.OPEN);
+        } finally {
+            release.countDown();
+        }
+    }
+
+    private RedirectLookup redirectLookup(Duration timeout) {
+        return redirectLookup(timeout, 2);
+    }
+
+    private RedirectLookup redirectLookup(Duration timeout, int maxConcurrentCalls) {
+        ResilienceProperties properties = new ResilienceProperties();
+        properties.setTimeout(timeout);
+        properties.getBulkhead().setMaxConcurrentCalls(maxConcurrentCalls);
+        properties.getCircuitBreaker().setSlidingWindowSize(4);
+        properties.getCircuitBreaker().setMinimumCalls(4);
+        return new RedirectLookup(urlStore, properties, new SimpleMeterRegistry());
+    }
+}
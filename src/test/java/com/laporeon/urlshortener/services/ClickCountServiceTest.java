@@ -0,0 +1,95 @@
+package com.laporeon.urlshortener.services;
+
+import com.laporeon.urlshortener.config.properties.ClickCountProperties;
+import com.laporeon.urlshortener.storage.UrlStore;
+import com.laporeon.urlshortener.trending.TrendingLinks;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ClickCountService Tests")
+public class ClickCountServiceTest {
+
+    @Mock
+    private UrlStore urlStore;
+
+    @Mock
+    private TrendingLinks trendingLinks;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private ClickCountService clickCountService;
+
+    @BeforeEach
+    void setUp() {
+        ClickCountProperties properties = new ClickCountProperties();
+        properties.setBufferSize(3);
+        clickCountService = new ClickCountService(urlStore, trendingLinks, properties, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Should sum clicks per short code into a single bulk increment")
+    void shouldSumClicksPerShortCode() {
+        clickCountService.record("a1b2c3d");
+        clickCountService.record("e4f5g6h");
+        clickCountService.record("a1b2c3d");
+
+        clickCountService.flush();
+
+        verify(urlStore, times(1)).incrementClickCounts(Map.of("a1b2c3d", 2L, "e4f5g6h", 1L));
+        verify(trendingLinks, times(2)).record("a1b2c3d");
+        assertThat(meterRegistry.get("url.clicks.buffered").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should drop and count clicks once the buffer is full")
+    void shouldDropClicksOnceTheBufferIsFull() {
+        for (int click = 0; click < 5; click++) {
+            clickCountService.record("a1b2c3d");
+        }
+
+        clickCountService.flush();
+
+        verify(urlStore).incrementClickCounts(Map.of("a1b2c3d", 3L));
+        verify(trendingLinks, times(5)).record("a1b2c3d");
+        assertThat(meterRegistry.get("url.clicks.dropped").counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should swallow a failed flush and keep accepting clicks")
+    void shouldSwallowAFailedFlush() {
+        doThrow(new DataAccessResourceFailureException("down")).when(urlStore).incrementClickCounts(anyMap());
+        clickCountService.record("a1b2c3d");
+
+        assertThatCode(clickCountService::flush).doesNotThrowAnyException();
+
+        clickCountService.record("e4f5g6h");
+        clickCountService.flush();
+
+        verify(urlStore).incrementClickCounts(Map.of("e4f5g6h", 1L));
+    }
+
+    @Test
+    @DisplayName("Should flush buffered clicks on shutdown and skip the store when nothing is buffered")
+    void shouldFlushBufferedClicksOnShutdown() {
+        clickCountService.flushOnShutdown();
+        verifyNoInteractions(urlStore);
+
+        clickCountService.record("a1b2c3d");
+        clickCountService.flushOnShutdown();
+
+        verify(urlStore).incrementClickCounts(Map.of("a1b2c3d", 1L));
+    }
+}
@@ -0,0 +1,97 @@
+package com.laporeon.urlshortener.services;
+
+import com.laporeon.urlshortener.cache.RedirectCache;
+import com.laporeon.urlshortener.cache.ShortCodeFilter;
+import com.laporeon.urlshortener.config.properties.ShortCodeProperties;
+import com.laporeon.urlshortener.entities.Url;
+import com.laporeon.urlshortener.exceptions.ShortCodeNotFoundException;
+import com.laporeon.urlshortener.repositories.ReactiveUrlRepository;
+import com.laporeon.urlshortener.utils.BaseUrlGenerator;
+import com.laporeon.urlshortener.utils.ExpirationDateGenerator;
+import com.laporeon.urlshortener.utils.ShortCodeGenerator;
+import com.laporeon.urlshortener.utils.UrlNormalizer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReactiveUrlService Tests")
+public class ReactiveUrlServiceTest {
+
+    private static final String VALID_SHORT_CODE = "a1b2c3d";
+    private static final String VALID_URL = "https://www.youtube.com";
+
+    @Mock
+    private ReactiveUrlRepository urlRepository;
+
+    @Mock
+    private ShortCodeGenerator codeGenerator;
+
+    @Mock
+    private ExpirationDateGenerator dateGenerator;
+
+    @Mock
+    private BaseUrlGenerator baseUrlGenerator;
+
+    @Mock
+    private RedirectCache redirectCache;
+
+    @Mock
+    private ShortCodeFilter shortCodeFilter;
+
+    @Spy
+    private ShortCodeProperties shortCodeProperties = new ShortCodeProperties();
+
+    @Spy
+    private UrlNormalizer urlNormalizer = new UrlNormalizer();
+
+    @InjectMocks
+    private ReactiveUrlService urlService;
+
+    @Test
+    @DisplayName("Should record a filter false positive when the code does not exist")
+    void shouldRecordAFalsePositiveWhenTheCodeDoesNotExist() {
+        when(redirectCache.get(VALID_SHORT_CODE)).thenReturn(Optional.empty());
+        when(urlRepository.findRedirectTargetByShortCode(VALID_SHORT_CODE)).thenReturn(Mono.empty());
+
+        StepVerifier.create(urlService.findByShortCode(VALID_SHORT_CODE))
+                    .expectError(ShortCodeNotFoundException.class)
+                    .verify();
+
+        verify(shortCodeFilter).recordFalsePositive();
+    }
+
+    @Test
+    @DisplayName("Should not record a filter false positive when the code exists but has expired")
+    void shouldNotRecordAFalsePositiveWhenTheCodeHasExpired() {
+        Url expired = Url.builder()
+                         .originalUrl(VALID_URL)
+                         .expiresAt(Instant.now().minus(1, ChronoUnit.DAYS))
+                         .build();
+
+        when(redirectCache.get(VALID_SHORT_CODE)).thenReturn(Optional.empty());
+        when(urlRepository.findRedirectTargetByShortCode(VALID_SHORT_CODE)).thenReturn(Mono.just(expired));
+
+        StepVerifier.create(urlService.findByShortCode(VALID_SHORT_CODE))
+                    .expectError(ShortCodeNotFoundException.class)
+                    .verify();
+
+        verify(shortCodeFilter, never()).recordFalsePositive();
+        verify(redirectCache, never()).put(any());
+    }
+}
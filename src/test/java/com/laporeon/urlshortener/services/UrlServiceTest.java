@@ -1,13 +1,23 @@
 package com.laporeon.urlshortener.services;
 
+import com.laporeon.urlshortener.cache.RedirectCache;
+import com.laporeon.urlshortener.cache.ShortCodeFilter;
+import com.laporeon.urlshortener.config.properties.DedupProperties;
+import com.laporeon.urlshortener.config.properties.ShortCodeProperties;
 import com.laporeon.urlshortener.dtos.request.UrlRequestDTO;
 import com.laporeon.urlshortener.dtos.response.UrlResponseDTO;
 import com.laporeon.urlshortener.entities.Url;
+import com.laporeon.urlshortener.exceptions.ShortCodeGenerationException;
 import com.laporeon.urlshortener.exceptions.ShortCodeNotFoundException;
-import com.laporeon.urlshortener.repositories.UrlRepository;
+import com.laporeon.urlshortener.exceptions.StorageUnavailableException;
+import com.laporeon.urlshortener.metrics.UrlMetrics;
+import com.laporeon.urlshortener.metrics.UrlMetrics.Outcome;
+import com.laporeon.urlshortener.resilience.RedirectLookup;
+import com.laporeon.urlshortener.storage.UrlStore;
 import com.laporeon.urlshortener.utils.BaseUrlGenerator;
 import com.laporeon.urlshortener.utils.ExpirationDateGenerator;
 import com.laporeon.urlshortener.utils.ShortCodeGenerator;
+import com.laporeon.urlshortener.utils.UrlNormalizer;
 import jakarta.servlet.http.HttpServletRequest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -15,16 +25,21 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
 
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -32,7 +47,7 @@ import static org.mockito.Mockito.*;
 public class UrlServiceTest {
 
     @Mock
-    private UrlRepository urlRepository;
+    private UrlStore urlStore;
 
     @Mock
     private ShortCodeGenerator codeGenerator;
@@ -43,9 +58,30 @@ public class UrlServiceTest {
     @Mock
     private BaseUrlGenerator baseUrlGenerator;
 
+    @Mock
+    private RedirectCache redirectCache;
+
+    @Mock
+    private ShortCodeFilter shortCodeFilter;
+
+    @Mock
+    private UrlMetrics urlMetrics;
+
+    @Mock
+    private RedirectLookup redirectLookup;
+
     @Mock
     private HttpServletRequest request;
 
+    @Spy
+    private ShortCodeProperties shortCodeProperties = new ShortCodeProperties();
+
+    @Spy
+    private DedupProperties dedupProperties = new DedupProperties();
+
+    @Spy
+    private UrlNormalizer urlNormalizer = new UrlNormalizer();
+
     @InjectMocks
     private UrlService urlService;
 
@@ -77,9 +113,8 @@ public class UrlServiceTest {
 
         when(dateGenerator.generateExpiresAt(eq(VALID_EXPIRATION_DATE))).thenReturn(expiresAt);
         when(codeGenerator.generateShortCode()).thenReturn(VALID_SHORT_CODE);
-        when(urlRepository.existsByShortCode(VALID_SHORT_CODE)).thenReturn(false);
-        when(urlRepository.save(any(Url.class))).thenReturn(mockedUrlEntity);
-        when(baseUrlGenerator.generateBaseUrl(any())).thenReturn(BASE_URL);
+        when(urlStore.insert(any(Url.class))).thenReturn(mockedUrlEntity);
+        when(baseUrlGenerator.generateBaseUrl(any(HttpServletRequest.class))).thenReturn(BASE_URL);
 
         UrlResponseDTO response = urlService.shortenUrl(requestDTO, request);
 
@@ -89,8 +124,7 @@ public class UrlServiceTest {
         verify(dateGenerator, times(1)).generateExpiresAt(eq(VALID_EXPIRATION_DATE));
         verify(codeGenerator, times(1)).generateShortCode();
         verify(baseUrlGenerator, times(1)).generateBaseUrl(request);
-        verify(urlRepository, times(1)).existsByShortCode(VALID_SHORT_CODE);
-        verify(urlRepository, times(1)).save(any(Url.class));
+        verify(urlStore, times(1)).insert(any(Url.class));
     }
 
     @Test
@@ -109,9 +143,8 @@ public class UrlServiceTest {
 
         when(dateGenerator.generateExpiresAt(eq(null))).thenReturn(defaultExpirationDate);
         when(codeGenerator.generateShortCode()).thenReturn(VALID_SHORT_CODE);
-        when(urlRepository.existsByShortCode(VALID_SHORT_CODE)).thenReturn(false);
-        when(urlRepository.save(any(Url.class))).thenReturn(urlWithDefaultExpiration);
-        when(baseUrlGenerator.generateBaseUrl(any())).thenReturn(BASE_URL);
+        when(urlStore.insert(any(Url.class))).thenReturn(urlWithDefaultExpiration);
+        when(baseUrlGenerator.generateBaseUrl(any(HttpServletRequest.class))).thenReturn(BASE_URL);
 
         UrlResponseDTO response = urlService.shortenUrl(requestDTO, request);
 
@@ -121,8 +154,7 @@ public class UrlServiceTest {
         verify(dateGenerator, times(1)).generateExpiresAt(null);
         verify(codeGenerator, times(1)).generateShortCode();
         verify(baseUrlGenerator, times(1)).generateBaseUrl(request);
-        verify(urlRepository, times(1)).existsByShortCode(VALID_SHORT_CODE);
-        verify(urlRepository, times(1)).save(any(Url.class));
+        verify(urlStore, times(1)).insert(any(Url.class));
     }
 
     @Test
@@ -143,10 +175,10 @@ public class UrlServiceTest {
         when(codeGenerator.generateShortCode())
                 .thenReturn(VALID_SHORT_CODE)
                 .thenReturn(newValidShortCode);
-        when(urlRepository.existsByShortCode(VALID_SHORT_CODE)).thenReturn(true);
-        when(urlRepository.existsByShortCode(newValidShortCode)).thenReturn(false);
-        when(urlRepository.save(any(Url.class))).thenReturn(savedUrlEntity);
-        when(baseUrlGenerator.generateBaseUrl(any())).thenReturn(BASE_URL);
+        when(urlStore.insert(any(Url.class)))
+                .thenThrow(new DuplicateKeyException("E11000 duplicate key error"))
+                .thenReturn(savedUrlEntity);
+        when(baseUrlGenerator.generateBaseUrl(any(HttpServletRequest.class))).thenReturn(BASE_URL);
 
         UrlResponseDTO response = urlService.shortenUrl(requestDTO, request);
 
@@ -156,20 +188,139 @@ public class UrlServiceTest {
         verify(dateGenerator, times(1)).generateExpiresAt(eq(VALID_EXPIRATION_DATE));
         verify(codeGenerator, times(2)).generateShortCode();
         verify(baseUrlGenerator, times(1)).generateBaseUrl(request);
-        verify(urlRepository, times(2)).existsByShortCode(any());
-        verify(urlRepository, times(1)).save(any(Url.class));
+        verify(urlStore, times(2)).insert(any(Url.class));
+        verify(urlMetrics, times(1)).recordCollision();
+    }
+
+    @Test
+    @DisplayName("Should give up after max attempts when every code collides")
+    void shouldGiveUpAfterMaxAttemptsWhenEveryCodeCollides() {
+        UrlRequestDTO requestDTO = new UrlRequestDTO(VALID_URL, VALID_EXPIRATION_DATE);
+
+        when(dateGenerator.generateExpiresAt(eq(VALID_EXPIRATION_DATE))).thenReturn(expiresAt);
+        when(codeGenerator.generateShortCode()).thenReturn(VALID_SHORT_CODE);
+        when(urlStore.insert(any(Url.class))).thenThrow(new DuplicateKeyException("E11000 duplicate key error"));
+
+        assertThatThrownBy(() -> urlService.shortenUrl(requestDTO, request))
+                .isInstanceOf(ShortCodeGenerationException.class);
+
+        verify(urlStore, times(shortCodeProperties.getMaxAttempts())).insert(any(Url.class));
+        verify(baseUrlGenerator, never()).generateBaseUrl(any(HttpServletRequest.class));
+    }
+
+    @Test
+    @DisplayName("Should shorten a batch and regenerate only the duplicated codes")
+    void shouldShortenBatchAndRegenerateOnlyDuplicatedCodes() {
+        List<UrlRequestDTO> requestDTOs = List.of(
+                new UrlRequestDTO(VALID_URL, VALID_EXPIRATION_DATE),
+                new UrlRequestDTO(VALID_URL, VALID_EXPIRATION_DATE));
+
+        when(dateGenerator.generateExpiresAt(eq(VALID_EXPIRATION_DATE))).thenReturn(expiresAt);
+        when(codeGenerator.generateShortCode())
+                .thenReturn(VALID_SHORT_CODE)
+                .thenReturn("h4i5j6k")
+                .thenReturn("l7m8n9o");
+        when(urlStore.insertAllUnordered(anyList()))
+                .thenReturn(List.of(1))
+                .thenReturn(List.of());
+        when(baseUrlGenerator.generateBaseUrl(any(HttpServletRequest.class))).thenReturn(BASE_URL);
+
+        List<UrlResponseDTO> response = urlService.shortenUrls(requestDTOs, request);
+
+        assertThat(response).extracting(UrlResponseDTO::shortUrl)
+                            .containsExactly(BASE_URL + "/" + VALID_SHORT_CODE, BASE_URL + "/l7m8n9o");
+
+        verify(codeGenerator, times(3)).generateShortCode();
+        verify(urlStore, times(2)).insertAllUnordered(anyList());
+    }
+
+    @Test
+    @DisplayName("Should reuse a live mapping with a compatible expiration when dedup is enabled")
+    void shouldReuseLiveMappingWhenDedupIsEnabled() {
+        dedupProperties.setEnabled(true);
+        UrlRequestDTO requestDTO = new UrlRequestDTO(VALID_URL, VALID_EXPIRATION_DATE);
+
+        when(dateGenerator.generateExpiresAt(eq(VALID_EXPIRATION_DATE))).thenReturn(expiresAt);
+        when(urlStore.findByDedupKey(anyString())).thenReturn(Optional.of(mockedUrlEntity));
+        when(baseUrlGenerator.generateBaseUrl(any(HttpServletRequest.class))).thenReturn(BASE_URL);
+
+        UrlResponseDTO response = urlService.shortenUrl(requestDTO, request);
+
+        assertThat(response.shortUrl()).isEqualTo(BASE_URL + "/" + VALID_SHORT_CODE);
+
+        verify(urlStore, never()).insert(any(Url.class));
+        verify(codeGenerator, never()).generateShortCode();
+        verify(urlMetrics, times(1)).recordDedupHit();
+    }
+
+    @Test
+    @DisplayName("Should return the concurrent winner when a dedup insert loses the race")
+    void shouldReturnConcurrentWinnerWhenDedupInsertLosesTheRace() {
+        dedupProperties.setEnabled(true);
+        UrlRequestDTO requestDTO = new UrlRequestDTO(VALID_URL, VALID_EXPIRATION_DATE);
+
+        when(dateGenerator.generateExpiresAt(eq(VALID_EXPIRATION_DATE))).thenReturn(expiresAt);
+        when(codeGenerator.generateShortCode()).thenReturn("x1y2z3w");
+        when(urlStore.findByDedupKey(anyString()))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(mockedUrlEntity));
+        when(urlStore.insert(any(Url.class))).thenThrow(new DuplicateKeyException("E11000 duplicate key error"));
+        when(baseUrlGenerator.generateBaseUrl(any(HttpServletRequest.class))).thenReturn(BASE_URL);
+
+        UrlResponseDTO response = urlService.shortenUrl(requestDTO, request);
+
+        assertThat(response.shortUrl()).isEqualTo(BASE_URL + "/" + VALID_SHORT_CODE);
+
+        verify(urlStore, times(1)).insert(argThat(url -> url.getDedupKey() != null));
+        verify(urlMetrics, never()).recordCollision();
+    }
+
+    @Test
+    @DisplayName("Should create a new mapping when the deduplicated one is about to expire")
+    void shouldCreateNewMappingWhenDeduplicatedOneIsAboutToExpire() {
+        dedupProperties.setEnabled(true);
+        mockedUrlEntity.setExpiresAt(Instant.now().plus(5, ChronoUnit.MINUTES));
+        UrlRequestDTO requestDTO = new UrlRequestDTO(VALID_URL, VALID_EXPIRATION_DATE);
+        String newShortCode = "n1e2w3c";
+
+        when(dateGenerator.generateExpiresAt(eq(VALID_EXPIRATION_DATE))).thenReturn(expiresAt);
+        when(codeGenerator.generateShortCode()).thenReturn(newShortCode);
+        when(urlStore.findByDedupKey(anyString())).thenReturn(Optional.of(mockedUrlEntity));
+        when(urlStore.insert(any(Url.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(baseUrlGenerator.generateBaseUrl(any(HttpServletRequest.class))).thenReturn(BASE_URL);
+
+        UrlResponseDTO response = urlService.shortenUrl(requestDTO, request);
+
+        assertThat(response.shortUrl()).isEqualTo(BASE_URL + "/" + newShortCode);
+
+        verify(urlStore, times(1)).insert(argThat(url -> url.getDedupKey() == null));
+        verify(urlMetrics, never()).recordDedupHit();
     }
 
     @Test
     @DisplayName("Should retrieve original URL for valid short code")
     void shouldRetrieveOriginalUrlForValidShortCode() {
-        when(urlRepository.findByShortCode(VALID_SHORT_CODE)).thenReturn(Optional.of(mockedUrlEntity));
+        when(redirectLookup.find(VALID_SHORT_CODE)).thenReturn(Optional.of(mockedUrlEntity));
 
         String result = urlService.findByShortCode(VALID_SHORT_CODE).getOriginalUrl();
 
         assertThat(result).isEqualTo(mockedUrlEntity.getOriginalUrl());
 
-        verify(urlRepository, times(1)).findByShortCode(VALID_SHORT_CODE);
+        verify(redirectLookup, times(1)).find(VALID_SHORT_CODE);
+        verify(redirectCache, times(1)).put(mockedUrlEntity);
+        verify(urlMetrics, times(1)).recordRedirect(any(), eq(Outcome.FOUND));
+    }
+
+    @Test
+    @DisplayName("Should serve cached URL without querying the repository")
+    void shouldServeCachedUrlWithoutQueryingRepository() {
+        when(redirectCache.get(VALID_SHORT_CODE)).thenReturn(Optional.of(mockedUrlEntity));
+
+        String result = urlService.findByShortCode(VALID_SHORT_CODE).getOriginalUrl();
+
+        assertThat(result).isEqualTo(mockedUrlEntity.getOriginalUrl());
+
+        verify(redirectLookup, never()).find(any());
     }
 
 
@@ -178,11 +329,57 @@ public class UrlServiceTest {
     void shouldThrowExceptionForInvalidShortCode() {
         String invalidShortCode = "invalid";
 
-        when(urlRepository.findByShortCode(invalidShortCode)).thenReturn(Optional.empty());
+        when(redirectLookup.find(invalidShortCode)).thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> urlService.findByShortCode(invalidShortCode))
                 .isInstanceOf(ShortCodeNotFoundException.class);
 
-        verify(urlRepository, times(1)).findByShortCode(invalidShortCode);
+        verify(redirectLookup, times(1)).find(invalidShortCode);
+        verify(shortCodeFilter, times(1)).recordFalsePositive();
+        verify(urlMetrics, times(1)).recordRedirect(any(), eq(Outcome.NOT_FOUND));
+    }
+
+    @Test
+    @DisplayName("Should treat expired URL as not found and never cache it")
+    void shouldTreatExpiredUrlAsNotFound() {
+        mockedUrlEntity.setExpiresAt(Instant.now().minus(1, ChronoUnit.MINUTES));
+
+        when(redirectLookup.find(VALID_SHORT_CODE)).thenReturn(Optional.of(mockedUrlEntity));
+
+        assertThatThrownBy(() -> urlService.findByShortCode(VALID_SHORT_CODE))
+                .isInstanceOf(ShortCodeNotFoundException.class);
+
+        verify(redirectCache, never()).put(any());
+        verify(urlMetrics, times(1)).recordRedirect(any(), eq(Outcome.EXPIRED));
+    }
+
+    @Test
+    @DisplayName("Should reject codes the filter never saw without querying the repository")
+    void shouldRejectCodesTheFilterNeverSawWithoutQueryingRepository() {
+        String unknownShortCode = "zzzzzzz";
+
+        when(shortCodeFilter.isDefinitelyAbsent(unknownShortCode)).thenReturn(true);
+
+        assertThatThrownBy(() -> urlService.findByShortCode(unknownShortCode))
+                .isInstanceOf(ShortCodeNotFoundException.class);
+
+        verify(redirectLookup, never()).find(any());
+    }
+
+    @Test
+    @DisplayName("Should record lookups failing on the store as unavailable or error, never as not found")
+    void shouldRecordStoreFailuresSeparatelyFromNotFound() {
+        when(redirectLookup.find(VALID_SHORT_CODE)).thenThrow(new StorageUnavailableException(1, null),
+                                                               new IllegalStateException("unexpected"));
+
+        assertThatThrownBy(() -> urlService.findByShortCode(VALID_SHORT_CODE))
+                .isInstanceOf(StorageUnavailableException.class);
+
+        assertThatThrownBy(() -> urlService.findByShortCode(VALID_SHORT_CODE))
+                .isInstanceOf(IllegalStateException.class);
+
+        verify(urlMetrics, times(1)).recordRedirect(any(), eq(Outcome.UNAVAILABLE));
+        verify(urlMetrics, times(1)).recordRedirect(any(), eq(Outcome.ERROR));
+        verify(urlMetrics, never()).recordRedirect(any(), eq(Outcome.NOT_FOUND));
     }
 }
@@ -0,0 +1,159 @@
+package com.laporeon.urlshortener.storage;
+
+import com.laporeon.urlshortener.config.properties.StorageProperties;
+import com.laporeon.urlshortener.entities.Url;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.QueryTimeoutException;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("GroupCommitWriter Tests")
+public class GroupCommitWriterTest {
+
+    private final List<List<Url>> batches = Collections.synchronizedList(new ArrayList<>());
+    private GroupCommitWriter writer;
+
+    @AfterEach
+    void tearDown() {
+        writer.stop();
+    }
+
+    @Test
+    @DisplayName("Should write concurrent inserts together and return each caller its own url")
+    void shouldWriteConcurrentInsertsTogether() throws Exception {
+        CountDownLatch firstBatchStarted = new CountDownLatch(1);
+        CountDownLatch releaseFirstBatch = new CountDownLatch(1);
+
+        writer = writer(urls -> {
+            batches.add(List.copyOf(urls));
+            firstBatchStarted.countDown();
+            await(releaseFirstBatch);
+            return List.of();
+        });
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(9)) {
+            Future<Url> first = executor.submit(() -> writer.insert(url("first00")));
+            firstBatchStarted.await();
+
+            // Everything arriving while the first batch is in flight goes out in the next one.
+            List<Future<Url>> others = new ArrayList<>();
+            for (int index = 0; index < 8; index++) {
+                String shortCode = "code00" + index;
+                others.add(executor.submit(() -> writer.insert(url(shortCode))));
+            }
+            while (writer.queued() < 8) {
+                Thread.onSpinWait();
+            }
+            releaseFirstBatch.countDown();
+
+            assertThat(first.get().getShortCode()).isEqualTo("first00");
+            for (int index = 0; index < 8; index++) {
+                assertThat(others.get(index).get().getShortCode()).isEqualTo("code00" + index);
+            }
+        }
+
+        assertThat(batches).hasSize(2);
+        assertThat(batches.get(1)).hasSize(8);
+    }
+
+    @Test
+    @DisplayName("Should fail only the caller whose url hit a duplicate key")
+    void shouldFailOnlyTheCallerWithTheDuplicate() throws Exception {
+        writer = writer(urls -> {
+            List<Integer> duplicates = new ArrayList<>();
+            for (int position = 0; position < urls.size(); position++) {
+                if (urls.get(position).getShortCode().equals("taken00")) {
+                    duplicates.add(position);
+                }
+            }
+            return duplicates;
+        });
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(2)) {
+            Future<Url> taken = executor.submit(() -> writer.insert(url("taken00")));
+            Future<Url> free = executor.submit(() -> writer.insert(url("free000")));
+
+            assertThat(free.get().getShortCode()).isEqualTo("free000");
+            assertThatThrownBy(taken::get).hasCauseInstanceOf(DuplicateKeyException.class);
+        }
+    }
+
+    @Test
+    @DisplayName("Should fail every caller of a batch when the bulk write fails")
+    void shouldFailTheWholeBatchWhenTheBulkWriteFails() {
+        writer = writer(urls -> {
+            throw new DataAccessResourceFailureException("connection reset");
+        });
+
+        assertThatThrownBy(() -> writer.insert(url("a1b2c3d"))).isInstanceOf(DataAccessResourceFailureException.class);
+    }
+
+    @Test
+    @DisplayName("Should keep writing after a batch fails unexpectedly")
+    void shouldKeepWritingAfterAnUnexpectedFailure() {
+        AtomicBoolean first = new AtomicBoolean(true);
+        writer = writer(urls -> first.getAndSet(false) ? List.of(urls.size()) : List.of());
+
+        assertThatThrownBy(() -> writer.insert(url("broken0"))).isInstanceOf(IndexOutOfBoundsException.class);
+        assertThat(writer.insert(url("a1b2c3d")).getShortCode()).isEqualTo("a1b2c3d");
+    }
+
+    @Test
+    @DisplayName("Should time out an insert the writer does not acknowledge")
+    void shouldTimeOutAnUnacknowledgedInsert() {
+        CountDownLatch release = new CountDownLatch(1);
+        StorageProperties.GroupCommit properties = new StorageProperties.GroupCommit();
+        properties.setMaxDelay(Duration.ofMillis(20));
+        properties.setTimeout(Duration.ofMillis(100));
+        writer = new GroupCommitWriter(urls -> {
+            await(release);
+            return List.of();
+        }, properties, new SimpleMeterRegistry());
+
+        try {
+            assertThatThrownBy(() -> writer.insert(url("a1b2c3d"))).isInstanceOf(QueryTimeoutException.class);
+        } finally {
+            release.countDown();
+        }
+    }
+
+    private GroupCommitWriter writer(Function<List<Url>, List<Integer>> bulkInsert) {
+        StorageProperties.GroupCommit properties = new StorageProperties.GroupCommit();
+        properties.setMaxDelay(Duration.ofMillis(20));
+        return new GroupCommitWriter(bulkInsert, properties, new SimpleMeterRegistry());
+    }
+
+    private static Url url(String shortCode) {
+        return Url.builder()
+                  .shortCode(shortCode)
+                  .originalUrl("https://example.com/" + shortCode)
+                  .expiresAt(Instant.now().plusSeconds(3600))
+                  .build();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
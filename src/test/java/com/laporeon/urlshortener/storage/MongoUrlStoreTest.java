@@ -0,0 +1,111 @@
+package com.laporeon.urlshortener.storage;
+
+import com.laporeon.urlshortener.cache.ShortCodeFilter;
+import com.laporeon.urlshortener.config.properties.StorageProperties;
+import com.laporeon.urlshortener.entities.Url;
+import com.laporeon.urlshortener.repositories.UrlRepository;
+import com.laporeon.urlshortener.storage.replica.UrlReplica;
+import com.mongodb.ReadPreference;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MongoUrlStore Tests")
+public class MongoUrlStoreTest {
+
+    private static final String SHORT_CODE = "a1b2c3d";
+    private static final Url URL = Url.builder()
+                                      .shortCode(SHORT_CODE)
+                                      .originalUrl("https://www.youtube.com/")
+                                      .expiresAt(Instant.now().plusSeconds(3600))
+                                      .build();
+
+    @Mock
+    private UrlRepository urlRepository;
+
+    @Mock
+    private UrlReplica urlReplica;
+
+    @Mock
+    private ObjectProvider<ShortCodeFilter> shortCodeFilterProvider;
+
+    @Mock
+    private ShortCodeFilter shortCodeFilter;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private MongoUrlStore store;
+
+    @BeforeEach
+    void setUp() {
+        StorageProperties properties = new StorageProperties();
+        properties.getSecondaryReads().setEnabled(true);
+        store = new MongoUrlStore(urlRepository, urlReplica, properties, shortCodeFilterProvider, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Should answer redirect lookups from a secondary")
+    void shouldAnswerRedirectLookupsFromASecondary() {
+        when(urlRepository.findRedirectTarget(anyString(), any(ReadPreference.class))).thenReturn(Optional.of(URL));
+
+        assertThat(store.findRedirectTarget(SHORT_CODE)).contains(URL);
+        verify(urlRepository).findRedirectTarget(SHORT_CODE, ReadPreference.nearest(90, TimeUnit.SECONDS));
+        verify(urlRepository, never()).findRedirectTarget(SHORT_CODE);
+        assertThat(meterRegistry.get("url.store.secondary_reads").tag("outcome", "hit").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should retry on the primary when a secondary has not replicated a code the filter knows")
+    void shouldRetryOnThePrimaryAfterASecondaryMiss() {
+        when(urlRepository.findRedirectTarget(anyString(), any(ReadPreference.class))).thenReturn(Optional.empty());
+        when(shortCodeFilterProvider.getIfAvailable()).thenReturn(shortCodeFilter);
+        when(shortCodeFilter.mightContain(SHORT_CODE)).thenReturn(true);
+        when(urlRepository.findRedirectTarget(SHORT_CODE)).thenReturn(Optional.of(URL));
+
+        assertThat(store.findRedirectTarget(SHORT_CODE)).contains(URL);
+        assertThat(meterRegistry.get("url.store.secondary_reads").tag("outcome", "miss").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("url.store.primary_fallbacks").tag("outcome", "found").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should retry on the primary for a code this instance just issued")
+    void shouldRetryOnThePrimaryForAJustIssuedCode() {
+        when(urlRepository.insert(URL)).thenReturn(URL);
+        when(urlRepository.findRedirectTarget(anyString(), any(ReadPreference.class))).thenReturn(Optional.empty());
+        when(urlRepository.findRedirectTarget(SHORT_CODE)).thenReturn(Optional.of(URL));
+
+        store.insert(URL);
+
+        assertThat(store.findRedirectTarget(SHORT_CODE)).contains(URL);
+        verify(shortCodeFilterProvider, never()).getIfAvailable();
+    }
+
+    @Test
+    @DisplayName("Should not retry on the primary for a code that cannot be new")
+    void shouldNotRetryOnThePrimaryForAnUnknownCode() {
+        when(urlRepository.findRedirectTarget(anyString(), any(ReadPreference.class))).thenReturn(Optional.empty());
+        when(shortCodeFilterProvider.getIfAvailable()).thenReturn(shortCodeFilter);
+
+        assertThat(store.findRedirectTarget(SHORT_CODE)).isEmpty();
+        verify(urlRepository, never()).findRedirectTarget(SHORT_CODE);
+        assertThat(meterRegistry.find("url.store.primary_fallbacks").counters())
+                .allSatisfy(counter -> assertThat(counter.count()).isZero());
+    }
+}
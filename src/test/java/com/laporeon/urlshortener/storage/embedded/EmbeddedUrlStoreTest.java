@@ -0,0 +1,146 @@
+package com.laporeon.urlshortener.storage.embedded;
+
+import com.laporeon.urlshortener.config.properties.StorageProperties;
+import com.laporeon.urlshortener.entities.Url;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("EmbeddedUrlStore Tests")
+public class EmbeddedUrlStoreTest {
+
+    private static final Instant NOW = Instant.parse("2025-01-01T00:00:00Z");
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    @DisplayName("Should recover urls, dedup keys and click counts by replaying the log")
+    void shouldRecoverUrlsDedupKeysAndClickCountsByReplayingTheLog() {
+        EmbeddedUrlStore store = open(NOW, DataSize.ofKilobytes(64));
+        store.insert(url("a1b2c3d", "https://example.com/a", "key-a", Duration.ofDays(1)));
+        store.insertAllUnordered(List.of(url("e4f5g6h", "https://example.com/e", null, Duration.ofDays(1))));
+        store.incrementClickCounts(Map.of("a1b2c3d", 3L));
+        store.incrementClickCounts(Map.of("a1b2c3d", 2L));
+
+        EmbeddedUrlStore recovered = open(NOW, DataSize.ofKilobytes(64));
+
+        assertThat(recovered.findRedirectTarget("a1b2c3d")).map(Url::getOriginalUrl).contains("https://example.com/a");
+        assertThat(recovered.findRedirectTarget("e4f5g6h")).map(Url::getOriginalUrl).contains("https://example.com/e");
+        assertThat(recovered.findByDedupKey("key-a")).map(Url::getClickCount).contains(5L);
+        assertThat(recovered.findRedirectTarget("zzzzzzz")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should reject a short code or dedup key that is still live")
+    void shouldRejectShortCodeOrDedupKeyThatIsStillLive() {
+        EmbeddedUrlStore store = open(NOW, DataSize.ofKilobytes(64));
+        store.insert(url("a1b2c3d", "https://example.com/a", "key-a", Duration.ofDays(1)));
+
+        assertThatThrownBy(() -> store.insert(url("a1b2c3d", "https://example.com/b", null, Duration.ofDays(1))))
+                .isInstanceOf(DuplicateKeyException.class);
+        assertThatThrownBy(() -> store.insert(url("x9y8z7w", "https://example.com/a", "key-a", Duration.ofDays(1))))
+                .isInstanceOf(DuplicateKeyException.class);
+
+        assertThat(store.insertAllUnordered(List.of(
+                url("x9y8z7w", "https://example.com/x", null, Duration.ofDays(1)),
+                url("a1b2c3d", "https://example.com/y", null, Duration.ofDays(1))))).containsExactly(1);
+    }
+
+    @Test
+    @DisplayName("Should discard a torn record at the end of the log and keep accepting writes")
+    void shouldDiscardTornRecordAtEndOfLog() throws IOException {
+        EmbeddedUrlStore store = open(NOW, DataSize.ofKilobytes(64));
+        store.insert(url("a1b2c3d", "https://example.com/a", null, Duration.ofDays(1)));
+        store.close();
+
+        Path segment = segmentFiles().get(0);
+        int end = UrlRecord.encodePut(url("a1b2c3d", "https://example.com/a", null, Duration.ofDays(1)), 0).remaining();
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+            ByteBuffer torn = ByteBuffer.allocate(12).putInt(200).putInt(0xCAFE).putInt(42).flip();
+            channel.write(torn, end);
+        }
+
+        EmbeddedUrlStore recovered = open(NOW, DataSize.ofKilobytes(64));
+        recovered.insert(url("e4f5g6h", "https://example.com/e", null, Duration.ofDays(1)));
+
+        EmbeddedUrlStore reopened = open(NOW, DataSize.ofKilobytes(64));
+
+        assertThat(reopened.findRedirectTarget("a1b2c3d")).isPresent();
+        assertThat(reopened.findRedirectTarget("e4f5g6h")).map(Url::getOriginalUrl).contains("https://example.com/e");
+    }
+
+    @Test
+    @DisplayName("Should compact expired records out of sealed segments and keep live ones with their clicks")
+    void shouldCompactExpiredRecordsOutOfSealedSegments() throws IOException {
+        EmbeddedUrlStore store = open(NOW, DataSize.ofKilobytes(1));
+
+        for (int i = 0; i < 60; i++) {
+            Duration lifetime = i % 4 == 0 ? Duration.ofDays(30) : Duration.ofMinutes(5);
+            store.insert(url("code%03d".formatted(i), "https://example.com/" + i, "key-" + i, lifetime));
+        }
+        store.incrementClickCounts(Map.of("code000", 7L, "code004", 1L));
+
+        int segmentsBefore = segmentFiles().size();
+
+        EmbeddedUrlStore later = open(NOW.plus(Duration.ofHours(1)), DataSize.ofKilobytes(1));
+        later.compact();
+
+        assertThat(segmentFiles().size()).isLessThan(segmentsBefore);
+
+        EmbeddedUrlStore recovered = open(NOW.plus(Duration.ofHours(1)), DataSize.ofKilobytes(1));
+        Set<String> live = new HashSet<>();
+        recovered.streamLiveShortCodes(null, live::add);
+
+        assertThat(live).hasSize(15).allMatch(code -> Integer.parseInt(code.substring(4)) % 4 == 0);
+        assertThat(recovered.findByDedupKey("key-0")).map(Url::getClickCount).contains(7L);
+        assertThat(recovered.findByDedupKey("key-4")).map(Url::getClickCount).contains(1L);
+        assertThat(recovered.findRedirectTarget("code001")).isEmpty();
+    }
+
+    private EmbeddedUrlStore open(Instant now, DataSize segmentSize) {
+        StorageProperties.Embedded properties = new StorageProperties.Embedded();
+        properties.setDirectory(directory.toString());
+        properties.setSegmentSize(segmentSize);
+        properties.setCompactionThreshold(0.5);
+
+        return new EmbeddedUrlStore(properties, Clock.fixed(now, ZoneOffset.UTC));
+    }
+
+    private List<Path> segmentFiles() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(Segment::isSegmentFile).sorted().toList();
+        }
+    }
+
+    private static Url url(String shortCode, String originalUrl, String dedupKey, Duration lifetime) {
+        return Url.builder()
+                  .shortCode(shortCode)
+                  .originalUrl(originalUrl)
+                  .dedupKey(dedupKey)
+                  .expiresAt(NOW.plus(lifetime))
+                  .createdAt(NOW)
+                  .build();
+    }
+}
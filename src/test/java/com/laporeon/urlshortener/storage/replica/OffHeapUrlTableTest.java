@@ -0,0 +1,99 @@
+package com.laporeon.urlshortener.storage.replica;
+
+import com.laporeon.urlshortener.utils.ShortCodeCipher;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("OffHeapUrlTable Tests")
+public class OffHeapUrlTableTest {
+
+    @Test
+    @DisplayName("Should return the latest mapping stored for a short code")
+    void shouldReturnTheLatestMappingStoredForShortCode() {
+        OffHeapUrlTable table = new OffHeapUrlTable(16);
+        table.put("a1b2c3d", "https://example.com/a", 1_000, false);
+        table.put("a1b2c3d", "https://example.com/ü", 2_000, true);
+
+        assertThat(table.get("a1b2c3d")).isEqualTo(new OffHeapUrlTable.Mapping("https://example.com/ü", 2_000, true));
+        assertThat(table.get("e4f5g6h")).isNull();
+        assertThat(table.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should ignore codes that are not 7 base62 characters")
+    void shouldIgnoreCodesThatAreNotSevenBase62Characters() {
+        OffHeapUrlTable table = new OffHeapUrlTable(16);
+        table.put("a1b2c3", "https://example.com/a", 1_000, false);
+        table.put("a1b2-3d", "https://example.com/a", 1_000, false);
+
+        assertThat(OffHeapUrlTable.pack("a1b2c3")).isEqualTo(-1);
+        assertThat(OffHeapUrlTable.pack("a1b2c3é")).isEqualTo(-1);
+        assertThat(OffHeapUrlTable.pack("AAAAAAA")).isZero();
+        assertThat(table.get("a1b2-3d")).isNull();
+        assertThat(table.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should keep every mapping reachable while growing and after removals")
+    void shouldKeepEveryMappingReachableWhileGrowingAndAfterRemovals() {
+        ShortCodeCipher cipher = new ShortCodeCipher("test");
+        OffHeapUrlTable table = new OffHeapUrlTable(16);
+
+        for (int id = 0; id < 10_000; id++) {
+            table.put(cipher.encode(id), "https://example.com/" + id, id, false);
+        }
+        for (int id = 0; id < 10_000; id += 2) {
+            table.remove(cipher.encode(id));
+        }
+
+        assertThat(table.size()).isEqualTo(5_000);
+        for (int id = 0; id < 10_000; id++) {
+            OffHeapUrlTable.Mapping mapping = table.get(cipher.encode(id));
+
+            if (id % 2 == 0) {
+                assertThat(mapping).isNull();
+            } else {
+                assertThat(mapping).isEqualTo(new OffHeapUrlTable.Mapping("https://example.com/" + id, id, false));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should remove expired mappings and reclaim their space")
+    void shouldRemoveExpiredMappingsAndReclaimTheirSpace() {
+        ShortCodeCipher cipher = new ShortCodeCipher("test");
+        OffHeapUrlTable table = new OffHeapUrlTable(100_000);
+
+        for (int id = 0; id < 100_000; id++) {
+            table.put(cipher.encode(id), "https://example.com/" + "x".repeat(64) + id, id < 90_000 ? 1_000 : 5_000, false);
+        }
+        long memoryBefore = table.memoryBytes();
+
+        int removed = table.removeExpired(1_000);
+
+        assertThat(removed).isEqualTo(90_000);
+        assertThat(table.size()).isEqualTo(10_000);
+        assertThat(table.memoryBytes()).isLessThan(memoryBefore);
+        assertThat(table.get(cipher.encode(0))).isNull();
+        assertThat(table.get(cipher.encode(95_000))).extracting(OffHeapUrlTable.Mapping::expiresAt).isEqualTo(5_000L);
+    }
+
+    @Test
+    @DisplayName("Should refuse new codes once the table is at its maximum capacity but still replace existing ones")
+    void shouldRefuseNewCodesOnceFull() {
+        OffHeapUrlTable table = new OffHeapUrlTable(16, 16);
+
+        for (int index = 0; index < 11; index++) {
+            assertThat(table.put("code0" + (char) ('a' + index) + "x", "https://example.com/" + index, 1_000, false))
+                    .isTrue();
+        }
+
+        assertThat(table.put("codezzz", "https://example.com/new", 1_000, false)).isFalse();
+        assertThat(table.put("code0ax", "https://example.com/replaced", 2_000, false)).isTrue();
+        assertThat(table.get("code0ax")).isEqualTo(new OffHeapUrlTable.Mapping("https://example.com/replaced", 2_000, false));
+        assertThat(table.get("codezzz")).isNull();
+        assertThat(table.size()).isEqualTo(11);
+    }
+}
@@ -0,0 +1,68 @@
+package com.laporeon.urlshortener.trending;
+
+import com.laporeon.urlshortener.config.properties.TrendingProperties;
+import com.laporeon.urlshortener.dtos.response.TrendingLinkDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("TrendingLinks Tests")
+public class TrendingLinksTest {
+
+    private final AtomicLong now = new AtomicLong();
+    private final TrendingLinks trendingLinks = new TrendingLinks(new TrendingProperties(), new SimpleMeterRegistry(), now::get);
+
+    @Test
+    @DisplayName("Should rank the most clicked codes first among many distinct ones")
+    void shouldRankTheMostClickedCodesFirst() throws Exception {
+        try (ExecutorService executor = Executors.newFixedThreadPool(4)) {
+            for (int thread = 0; thread < 4; thread++) {
+                int offset = thread;
+                executor.submit(() -> {
+                    for (int click = 0; click < 250; click++) {
+                        trendingLinks.record("hot0000");
+                        trendingLinks.record("warm000");
+                        if (click % 2 == 0) {
+                            trendingLinks.record("warm000");
+                        }
+                    }
+                    // A long tail of codes clicked once, far more than the tracked size.
+                    for (int code = 0; code < 5_000; code++) {
+                        trendingLinks.record("c" + offset + "%05d".formatted(code));
+                    }
+                });
+            }
+        }
+
+        List<TrendingLinkDTO> top = trendingLinks.top(TrendingWindow.ONE_MINUTE, 2);
+
+        assertThat(top).extracting(TrendingLinkDTO::shortCode).containsExactly("warm000", "hot0000");
+        assertThat(top.get(0).estimatedClicks()).isBetween(1500L, 1600L);
+        assertThat(top.get(1).estimatedClicks()).isBetween(1000L, 1100L);
+    }
+
+    @Test
+    @DisplayName("Should forget clicks once they slide out of a window but keep them in longer ones")
+    void shouldForgetClicksOnceTheySlideOutOfAWindow() {
+        for (int click = 0; click < 10; click++) {
+            trendingLinks.record("a1b2c3d");
+        }
+
+        now.addAndGet(Duration.ofSeconds(61).toNanos());
+        trendingLinks.advance();
+        trendingLinks.record("x9y8z7w");
+
+        assertThat(trendingLinks.top(TrendingWindow.ONE_MINUTE, 10))
+                .containsExactly(new TrendingLinkDTO("x9y8z7w", 1));
+        assertThat(trendingLinks.top(TrendingWindow.FIFTEEN_MINUTES, 10))
+                .containsExactly(new TrendingLinkDTO("a1b2c3d", 10), new TrendingLinkDTO("x9y8z7w", 1));
+    }
+}
@@ -0,0 +1,62 @@
+package com.laporeon.urlshortener.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+@DisplayName("HttpUrl Tests")
+public class HttpUrlTest {
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "https://example.com",
+            "http://sub_domain.example-site.co.uk:8080/path/to?q=1&r=a%20b#frag",
+            "https://www.youtube.com/",
+            "https://example.com/ünïcode/path",
+            "https://bücher.example/"
+    })
+    @DisplayName("Should accept absolute http and https URLs")
+    void shouldAcceptAbsoluteHttpAndHttpsUrls(String url) {
+        assertThat(HttpUrl.isValid(url)).isTrue();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "", "example.com", "ftp://example.com", "https://", "https://localhost", "https://example.com.",
+            "https://.example.com", "https://exa mple.com", "https://user@example.com", "https://example.com?q=1",
+            "https://example.com:", "https://example.com:0", "https://example.com:65536", "https://example.com/a b",
+            "https://example..com"
+    })
+    @DisplayName("Should reject anything else")
+    void shouldRejectAnythingElse(String url) {
+        assertThat(HttpUrl.isValid(url)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should normalize scheme, host, default port, international host and empty path")
+    void shouldNormalize() {
+        assertThat(HttpUrl.parse("HTTPS://Example.COM:443")).hasToString("https://example.com/");
+        assertThat(HttpUrl.parse("Http://Example.com:80/Path?Q=1")).hasToString("http://example.com/Path?Q=1");
+        assertThat(HttpUrl.parse("http://example.com:443/")).hasToString("http://example.com:443/");
+        assertThat(HttpUrl.parse("https://Bücher.example/a")).hasToString("https://xn--bcher-kva.example/a");
+    }
+
+    @Test
+    @DisplayName("Should reject adversarial hosts in linear time")
+    void shouldRejectAdversarialHostsInLinearTime() {
+        // Deep enough to overflow the stack of the backtracking regex this parser replaced.
+        String dotted = "https://" + "a.".repeat(100_000) + "a!";
+        String undotted = "https://" + "a".repeat(200_000) + "!";
+
+        assertTimeoutPreemptively(Duration.ofSeconds(1), () -> {
+            assertThat(HttpUrl.isValid(dotted)).isFalse();
+            assertThat(HttpUrl.isValid(undotted)).isFalse();
+        });
+    }
+}
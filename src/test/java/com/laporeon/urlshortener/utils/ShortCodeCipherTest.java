@@ -0,0 +1,55 @@
+package com.laporeon.urlshortener.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ShortCodeCipher Tests")
+public class ShortCodeCipherTest {
+
+    private final ShortCodeCipher cipher = new ShortCodeCipher("test-key");
+
+    @Test
+    @DisplayName("Should encode sequential ids into distinct valid short codes")
+    void shouldEncodeSequentialIdsIntoDistinctValidShortCodes() {
+        Set<String> codes = new HashSet<>();
+
+        for (long id = 0; id < 100_000; id++) {
+            String code = cipher.encode(id);
+            assertThat(code).matches("[A-Za-z0-9]{7}");
+            codes.add(code);
+        }
+
+        assertThat(codes).hasSize(100_000);
+    }
+
+    @Test
+    @DisplayName("Should decode short codes back into their ids")
+    void shouldDecodeShortCodesBackIntoTheirIds() {
+        long[] ids = {0, 1, 2, 999, 1_000_000, ShortCodeCipher.CODE_SPACE - 1};
+
+        for (long id : ids) {
+            assertThat(cipher.decode(cipher.encode(id))).isEqualTo(id);
+        }
+    }
+
+    @Test
+    @DisplayName("Should produce different codes for different keys")
+    void shouldProduceDifferentCodesForDifferentKeys() {
+        ShortCodeCipher otherCipher = new ShortCodeCipher("other-key");
+
+        assertThat(otherCipher.encode(42)).isNotEqualTo(cipher.encode(42));
+    }
+
+    @Test
+    @DisplayName("Should reject ids outside the code space")
+    void shouldRejectIdsOutsideTheCodeSpace() {
+        assertThatThrownBy(() -> cipher.encode(ShortCodeCipher.CODE_SPACE))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,31 @@
+package com.laporeon.urlshortener.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("UrlNormalizer Tests")
+public class UrlNormalizerTest {
+
+    private final UrlNormalizer normalizer = new UrlNormalizer();
+
+    @Test
+    @DisplayName("Should give equivalent spellings of a URL the same fingerprint")
+    void shouldGiveEquivalentSpellingsTheSameFingerprint() {
+        String fingerprint = normalizer.fingerprint("https://example.com/");
+
+        assertThat(normalizer.fingerprint("HTTPS://Example.COM")).isEqualTo(fingerprint);
+        assertThat(normalizer.fingerprint("https://example.com:443/")).isEqualTo(fingerprint);
+        assertThat(fingerprint).hasSize(22);
+    }
+
+    @Test
+    @DisplayName("Should keep path, query and fragment case sensitive")
+    void shouldKeepPathQueryAndFragmentCaseSensitive() {
+        assertThat(normalizer.normalize("http://Example.com:8080/Path?Q=1#Top"))
+                .isEqualTo("http://example.com:8080/Path?Q=1#Top");
+        assertThat(normalizer.fingerprint("https://example.com/a"))
+                .isNotEqualTo(normalizer.fingerprint("https://example.com/A"));
+    }
+}